@@ -0,0 +1,204 @@
+package 객체풀;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import 스택.LockFreeStack;
+import 스택.Stack;
+
+/**
+ * 짧게 쓰고 버리는 객체를 재사용하기 위한 객체 풀
+ * 버퍼처럼 자주 만들고 버리는 객체를 풀에 돌려두었다가 다시 꺼내 쓰면
+ * 할당 횟수가 줄어들고 young GC도 덜 자주 일어난다.
+ *
+ * 스레드마다 {@link Stack} 하나를 캐시로 두어 같은 스레드가 돌려준 객체는 동기화 없이 다시 꺼낸다.
+ * 캐시가 가득 차면 남는 객체를 모든 스레드가 함께 쓰는 {@link LockFreeStack}에 넘기고,
+ * 캐시가 비면 그 공유 스택에서 가져온다. (생산하는 스레드와 소비하는 스레드가 다른 경우)
+ * 공유 스택도 가득 차면 객체를 버리고 GC에 맡긴다.
+ *
+ * <pre>
+ * acquire: 스레드 캐시 -> 공유 스택 -> factory로 새로 만듦
+ * release: reset -> 스레드 캐시 -> 공유 스택 -> 버림
+ * </pre>
+ *
+ * 풀은 객체가 어디서 왔는지 검사하지 않으므로, 한 객체를 두 번 돌려주거나 돌려준 뒤에 계속 쓰면 안 된다.
+ *
+ * @param <T> 재사용할 객체의 타입
+ */
+public class ObjectPool<T> {
+
+    // 스레드마다 들고 있을 최대 객체 수의 기본값
+    private static final int DEFAULT_MAX_PER_THREAD = 64;
+
+    // 새 객체를 만드는 함수
+    private final Supplier<? extends T> factory;
+
+    // 돌려받은 객체를 다시 쓸 수 있는 상태로 되돌리는 함수
+    private final Consumer<? super T> reset;
+
+    // 스레드마다 들고 있을 최대 객체 수
+    private final int maxPerThread;
+
+    // 공유 스택에 둘 최대 객체 수
+    private final int maxShared;
+
+    // 스레드별 캐시, 다른 스레드가 건드리지 않으므로 동기화하지 않음
+    private final ThreadLocal<Stack<T>> local;
+
+    // 스레드 캐시에서 넘친 객체를 다른 스레드에게 넘겨주는 공유 스택
+    private final LockFreeStack<T> shared = new LockFreeStack<>();
+
+    // 공유 스택에 있는 객체 수, 상한을 지키기 위해 따로 셈
+    private final AtomicInteger sharedSize = new AtomicInteger();
+
+    // 통계: 스레드 캐시에서 꺼낸 수, 공유 스택에서 가져온 수, 새로 만든 수, 버린 수
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder steals = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    /**
+     * @param factory 풀이 비었을 때 새 객체를 만드는 함수
+     * @param reset 돌려받은 객체를 초기화하는 함수
+     * @param maxPerThread 스레드마다 들고 있을 최대 객체 수
+     * @param maxShared 모든 스레드가 함께 쓰는 공유 스택에 둘 최대 객체 수
+     * @throws IllegalArgumentException 최대 객체 수가 음수인 경우
+     */
+    public ObjectPool(Supplier<? extends T> factory, Consumer<? super T> reset, int maxPerThread, int maxShared) {
+        if (maxPerThread < 0)
+            throw new IllegalArgumentException("스레드별 최대 객체 수는 음수일 수 없습니다: " + maxPerThread);
+        if (maxShared < 0)
+            throw new IllegalArgumentException("공유 최대 객체 수는 음수일 수 없습니다: " + maxShared);
+        this.factory = Objects.requireNonNull(factory);
+        this.reset = Objects.requireNonNull(reset);
+        this.maxPerThread = maxPerThread;
+        this.maxShared = maxShared;
+        this.local = ThreadLocal.withInitial(Stack::new);
+    }
+
+    /**
+     * 스레드마다 64개, 공유 스택에 코어 수 × 64개까지 들고 있는 풀을 만듦
+     * @param factory 풀이 비었을 때 새 객체를 만드는 함수
+     * @param reset 돌려받은 객체를 초기화하는 함수
+     */
+    public ObjectPool(Supplier<? extends T> factory, Consumer<? super T> reset) {
+        this(factory, reset, DEFAULT_MAX_PER_THREAD,
+            Runtime.getRuntime().availableProcessors() * DEFAULT_MAX_PER_THREAD);
+    }
+
+    /**
+     * 풀에서 객체를 하나 꺼냄, 풀이 비었으면 새로 만듦
+     * @return 재사용하거나 새로 만든 객체
+     */
+    public T acquire() {
+        Stack<T> cache = local.get();
+        if (!cache.isEmpty()) {
+            hits.increment();
+            return cache.pop();
+        }
+        T item = shared.poll();
+        if (item != null) {
+            sharedSize.decrementAndGet();
+            steals.increment();
+            return item;
+        }
+        misses.increment();
+        return factory.get();
+    }
+
+    /**
+     * 다 쓴 객체를 풀에 돌려줌
+     * 초기화한 뒤 스레드 캐시에 넣고, 캐시가 가득 차면 공유 스택에, 그것도 가득 차면 버림
+     * @param item 돌려줄 객체
+     * @throws NullPointerException item이 null인 경우
+     */
+    public void release(T item) {
+        Objects.requireNonNull(item);
+        reset.accept(item);
+        Stack<T> cache = local.get();
+        if (cache.size() < maxPerThread) {
+            cache.push(item);
+            return;
+        }
+        // 먼저 자리를 잡고, 상한을 넘었으면 되돌림
+        if (sharedSize.incrementAndGet() <= maxShared) {
+            shared.push(item);
+        } else {
+            sharedSize.decrementAndGet();
+            discards.increment();
+        }
+    }
+
+    /**
+     * 현재 스레드의 캐시를 비움
+     * 스레드 풀의 작업 스레드처럼 오래 사는 스레드가 더 이상 이 풀을 쓰지 않을 때 호출함
+     * 캐시에 있던 객체는 공유 스택에 자리가 있는 만큼 넘기고 나머지는 버림
+     */
+    public void releaseThreadCache() {
+        Stack<T> cache = local.get();
+        local.remove();
+        cache.drainTo(item -> {
+            if (sharedSize.incrementAndGet() <= maxShared) {
+                shared.push(item);
+            } else {
+                sharedSize.decrementAndGet();
+                discards.increment();
+            }
+        });
+    }
+
+    /**
+     * @return 스레드 캐시에서 바로 꺼낸 횟수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return 스레드 캐시가 비어서 공유 스택에서 가져온 횟수
+     */
+    public long stealCount() {
+        return steals.sum();
+    }
+
+    /**
+     * @return 풀이 비어서 새로 만든 횟수
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return 풀이 가득 차서 돌려받은 객체를 버린 횟수
+     */
+    public long discardCount() {
+        return discards.sum();
+    }
+
+    /**
+     * 꺼낸 객체 중 새로 만들지 않고 재사용한 비율
+     * @return 0과 1 사이의 값, 아직 꺼낸 적이 없으면 0
+     */
+    public double reuseRate() {
+        long reused = hits.sum() + steals.sum();
+        long total = reused + misses.sum();
+        return (total == 0) ? 0.0 : (double) reused / total;
+    }
+
+    /**
+     * @return 공유 스택에 있는 객체 수, 다른 스레드가 작업 중일 때는 근삿값
+     */
+    public int sharedSize() {
+        return sharedSize.get();
+    }
+
+    // ToString() 오버라이드, 통계를 출력함
+    @Override
+    public String toString() {
+        return "ObjectPool[hits=" + hitCount() + ", steals=" + stealCount() + ", misses=" + missCount()
+            + ", discards=" + discardCount() + ", shared=" + sharedSize() + "]";
+    }
+}
@@ -0,0 +1,40 @@
+package 객체풀;
+
+import java.util.concurrent.CountDownLatch;
+
+public class ObjectPool테스트 {
+    public static void main(String[] args) throws InterruptedException {
+        ObjectPool<StringBuilder> pool = new ObjectPool<>(
+            () -> new StringBuilder(256), builder -> builder.setLength(0), 4, 8);
+
+        // 같은 스레드에서 꺼내고 돌려주면 캐시에서 재사용함
+        for (int i = 0; i < 100; i++) {
+            StringBuilder builder = pool.acquire();
+            builder.append("요청 ").append(i);
+            pool.release(builder);
+        }
+        System.out.println(pool);
+
+        // 한 스레드가 돌려준 객체를 다른 스레드가 공유 스택에서 가져감
+        StringBuilder[] burst = new StringBuilder[20];
+        for (int i = 0; i < burst.length; i++)
+            burst[i] = pool.acquire();
+        for (StringBuilder builder : burst)
+            pool.release(builder);
+        System.out.println(pool);
+
+        CountDownLatch done = new CountDownLatch(1);
+        new Thread(() -> {
+            for (int i = 0; i < 10; i++)
+                pool.acquire();
+            done.countDown();
+        }).start();
+        done.await();
+        System.out.println(pool);
+        System.out.printf("재사용 비율 %.1f%%%n", pool.reuseRate() * 100);
+
+        // 캐시를 비우면 공유 스택에 자리가 있는 만큼 넘어감
+        pool.releaseThreadCache();
+        System.out.println(pool);
+    }
+}
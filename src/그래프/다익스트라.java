@@ -0,0 +1,71 @@
+package 그래프;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.StringTokenizer;
+
+import 큐.IndexMinPriorityQueue;
+
+/**
+ * 가중치가 있는 방향 그래프에서 시작 정점으로부터 각 정점까지의 최단 거리를 구한다.
+ * 간선은 정점별 연결 리스트를 int 배열로 나타내고 (head, next),
+ * 거리는 {@link IndexMinPriorityQueue}의 decreaseKey로 줄이므로 큐에는 정점당 항목이 하나만 있다.
+ *
+ * 입력
+ * 정점의 개수 간선의 개수
+ * 시작 정점
+ * 출발 도착 가중치 (간선의 개수만큼)
+ */
+public class 다익스트라 {
+    public static void main(String[] args) throws Exception {
+        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+
+        StringTokenizer st = new StringTokenizer(br.readLine());
+
+        int n = Integer.parseInt(st.nextToken()); // 정점의 개수
+        int e = Integer.parseInt(st.nextToken()); // 간선의 개수
+        int start = Integer.parseInt(br.readLine().trim());
+
+        // head[v]: v에서 나가는 첫 간선, next[i]: 같은 정점에서 나가는 다음 간선, -1이면 끝
+        int[] head = new int[n + 1];
+        int[] next = new int[e];
+        int[] to = new int[e];
+        int[] weight = new int[e];
+        Arrays.fill(head, -1);
+
+        for (int i = 0; i < e; i++) {
+            st = new StringTokenizer(br.readLine());
+            int fr = Integer.parseInt(st.nextToken());
+            to[i] = Integer.parseInt(st.nextToken());
+            weight[i] = Integer.parseInt(st.nextToken());
+            next[i] = head[fr];
+            head[fr] = i;
+        }
+
+        double[] dist = new double[n + 1];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[start] = 0;
+
+        IndexMinPriorityQueue pq = new IndexMinPriorityQueue(n + 1);
+        pq.insert(start, 0);
+        while (!pq.isEmpty()) {
+            int u = pq.pollMin();
+            for (int i = head[u]; i != -1; i = next[i]) {
+                int v = to[i];
+                double d = dist[u] + weight[i];
+                // 더 짧은 경로를 찾으면 큐에 넣거나 이미 있는 항목의 거리를 줄임
+                if (d < dist[v]) {
+                    dist[v] = d;
+                    pq.offerOrDecrease(v, d);
+                }
+            }
+        }
+
+        //1번노드부터 출력
+        StringBuilder sb = new StringBuilder();
+        for (int v = 1; v <= n; v++)
+            sb.append(dist[v] == Double.POSITIVE_INFINITY ? "INF" : String.valueOf((long) dist[v])).append('\n');
+        System.out.print(sb);
+    }
+}
@@ -1,14 +1,21 @@
 package 배열리스트;
 
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 
 public class ArrayList<E> implements List<E>, Cloneable {
@@ -27,16 +34,58 @@ public class ArrayList<E> implements List<E>, Cloneable {
     // 배열을 크기를 추적하는 크기
     private int size;
 
-    public ArrayList(int capacity){
+    // 용량이 모자랄 때 새 용량을 정하는 정책
+    private final GrowthPolicy growthPolicy;
+
+    // 용량을 키우면서 기존 배열을 복사한 횟수
+    private int resizeCount;
+
+    // 용량을 키우면서 복사한 배열 칸의 누적 개수
+    private long copiedElements;
+
+    // 지금까지 가장 컸던 배열의 길이
+    private int peakCapacity;
+
+    // clone으로 배열을 다른 배열리스트와 함께 쓰고 있는지 여부
+    // true인 동안에는 배열에 직접 쓰지 않고, 처음 쓸 때 자기 배열로 복사함(지연 복사)
+    private boolean shared;
+
+    public ArrayList(int capacity, GrowthPolicy growthPolicy){
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
         if (capacity == 0){
             this.array = EMPTY_ARRAY;
         } else {
             this.array = new Object[capacity];
         }
+        this.peakCapacity = capacity;
+    }
+
+    public ArrayList(int capacity){
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    public ArrayList(GrowthPolicy growthPolicy){
+        this(0, growthPolicy);
     }
 
     public ArrayList(){
-        this.array = EMPTY_ARRAY;
+        this(0, GrowthPolicy.DEFAULT);
+    }
+
+    // 같은 패키지에서 이미 채워진 배열을 복사 없이 넘겨받을 때 사용함
+    // 넘겨준 쪽은 이후 그 배열을 건드리면 안 됨
+    ArrayList(Object[] array, int size){
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+        this.array = (array.length == 0) ? EMPTY_ARRAY : array;
+        this.size = size;
+        this.peakCapacity = array.length;
+    }
+
+    // 같은 패키지에서 다른 곳이 계속 읽는 배열을 복사 없이 빌려올 때 사용함
+    // 처음 쓸 때 자기 배열로 복사하므로 넘겨준 배열은 바뀌지 않음
+    ArrayList(Object[] array, int size, boolean shared){
+        this(array, size);
+        this.shared = shared && array.length > 0;
     }
 
     /**
@@ -46,26 +95,95 @@ public class ArrayList<E> implements List<E>, Cloneable {
         final Object[] a = array;
         if (size < a.length){
             array = (size == 0) ? EMPTY_ARRAY : Arrays.copyOf(a, size);
+            shared = false;
+        }
+    }
+
+    /**
+     * 최소 minCapacity개의 요소를 다시 할당하지 않고 담을 수 있도록 용량을 늘린다.
+     * @param minCapacity 필요한 최소 용량
+     */
+    public void ensureCapacity(int minCapacity){
+        if (minCapacity > array.length)
+            growUp(minCapacity);
+    }
+
+    // 현재 배열 크기의 절반만큼 키우거나, minCapacity만큼 키운 새 크기를 계산함
+    // 같은 패키지의 원시 타입 리스트들(IntArrayList 등)도 같은 증가 정책을 쓰도록 분리해둠
+    static int newCapacity(int oldCapacity, int minCapacity){
+        int newCapacity = oldCapacity + Math.max(minCapacity - oldCapacity, oldCapacity >> 1);
+
+        if(newCapacity < 0){
+            throw new OutOfMemoryError(
+                "메모리 용량 초과: " + oldCapacity + " + " + newCapacity + "의 배열로는 확장할 수 없습니다."
+            );
         }
+        return newCapacity;
     }
 
     // 어레이의 크기를 키우는 메소드
     private Object[] growUp(int minCapacity){
         int oldCapacity = array.length;
+        final Object[] grown;
         if(oldCapacity > 0){
-            // 현재 배열 크기의 절반만큼 키우거나, minCapacity만큼 키움
-            int newCapacity = oldCapacity + Math.max(minCapacity - oldCapacity, oldCapacity >> 1);
-
-            if(newCapacity < 0){
-                throw new OutOfMemoryError(
-                    "메모리 용량 초과: " + oldCapacity + " + " + newCapacity + "의 배열로는 확장할 수 없습니다."
-                );
-            }else{
-                return array = Arrays.copyOf(array, newCapacity);
-            }
+            grown = Arrays.copyOf(array, Math.max(growthPolicy.newCapacity(oldCapacity, minCapacity), minCapacity));
+            resizeCount++;
+            copiedElements += oldCapacity;
         }else{
-            return array = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+            grown = new Object[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+        if (grown.length > peakCapacity)
+            peakCapacity = grown.length;
+        // 새 배열이므로 더 이상 다른 배열리스트와 공유하지 않음
+        shared = false;
+        return array = grown;
+    }
+
+    /**
+     * 배열에 쓰기 전에 호출해서 쓸 수 있는 배열을 얻음
+     * clone 이후 배열을 공유하고 있다면 이때 처음으로 복사함
+     * 공유 여부는 양쪽이 따로 들고 있으므로, 한쪽이 먼저 복사해도 다른 쪽은 자기 첫 쓰기에서 한 번 더 복사함
+     */
+    private Object[] ownedArray() {
+        if (shared) {
+            array = Arrays.copyOf(array, array.length);
+            shared = false;
         }
+        return array;
+    }
+
+    /**
+     * 용량을 키우면서 기존 배열을 새 배열로 복사한 횟수
+     * 빈 배열에 처음 할당하는 것은 복사가 없으므로 세지 않음
+     * @return 복사 횟수
+     */
+    public int resizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * 용량을 키우면서 복사한 배열 칸의 누적 개수
+     * 복사한 바이트 수는 이 값에 참조 크기(압축 참조면 4바이트, 아니면 8바이트)를 곱한 것과 같음
+     * @return 복사한 칸의 개수
+     */
+    public long copiedElements() {
+        return copiedElements;
+    }
+
+    /**
+     * 지금까지 가장 컸던 배열의 길이
+     * @return 최대 용량
+     */
+    public int peakCapacity() {
+        return peakCapacity;
+    }
+
+    /**
+     * 현재 배열에서 원소가 들어있지 않은 칸의 개수
+     * @return 용량 - 크기
+     */
+    public int wastedSlots() {
+        return array.length - size;
     }
         
     // 어레이의 크기를 1만 키우기 위한 다형성 메소드
@@ -77,6 +195,8 @@ public class ArrayList<E> implements List<E>, Cloneable {
     private void add(E element, Object[] array, int s) {
         if (s == array.length)
             array = growUp();
+        else if (shared)
+            array = ownedArray();
         array[s] = element;
         size = s + 1;
     }
@@ -102,6 +222,8 @@ public class ArrayList<E> implements List<E>, Cloneable {
         // 배열이 풀이라면 사이즈 키우기
         if ((s = size) == array.length)
             array = growUp();
+        else
+            ownedArray();
         // 배열을 한 칸 뒤로 민다. 
         System.arraycopy(array, index, array, index+1, s-index);
         array[index] = element;
@@ -119,6 +241,8 @@ public class ArrayList<E> implements List<E>, Cloneable {
         final int s;
         if (array.length - (s = size) < addSize){
             array = growUp(s + addSize);
+        } else {
+            ownedArray();
         }
         System.arraycopy(addArray, 0, array, s, addSize);
         size = size + addSize;       
@@ -136,6 +260,8 @@ public class ArrayList<E> implements List<E>, Cloneable {
         final int s;
         if (array.length - (s = size) < addSize)
             array = growUp(s + addSize);
+        else
+            ownedArray();
         
         // 밀어야하는 인덱스만큼 밀어냄
         int moveNum = s - index;
@@ -149,6 +275,13 @@ public class ArrayList<E> implements List<E>, Cloneable {
     // 배열리스트의 값을 모두 빈 값으로 초기화
     @Override
     public void clear() {
+        if (shared) {
+            // 공유 중인 배열은 비울 필요 없이 같은 크기의 새 배열로 바꿈
+            array = (array.length == 0) ? EMPTY_ARRAY : new Object[array.length];
+            shared = false;
+            size = 0;
+            return;
+        }
         final Object[] a = array;
         for (int to = size, i = size = 0; i < to; i++)
             a[i] = null;
@@ -225,8 +358,9 @@ public class ArrayList<E> implements List<E>, Cloneable {
     @Override
     public E set(int index, E element) {
         checkIndexRange(index);
-        E oldValue = (E) array[index];
-        array[index] = element;
+        final Object[] objects = ownedArray();
+        E oldValue = (E) objects[index];
+        objects[index] = element;
         return oldValue;
     }
 
@@ -385,6 +519,114 @@ public class ArrayList<E> implements List<E>, Cloneable {
         }
     }
 
+    /**
+     * 내부 배열의 [0, size) 범위를 그 자리에서 정렬한다.
+     * {@link List#sort}의 기본 구현은 toArray로 복사해서 정렬한 뒤
+     * ListIterator.set으로 하나씩 다시 써넣기 때문에 리스트를 두 번 복사하게 된다.
+     *
+     * @param c 비교자, {@code null}이면 원소의 자연 순서를 따름
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        @SuppressWarnings("unchecked")
+        final E[] a = (E[]) ownedArray();
+        Arrays.sort(a, 0, size, c);
+    }
+
+    /**
+     * 내부 배열의 [0, size) 범위를 포크조인 병합 정렬로 그 자리에서 정렬한다.
+     * {@link Arrays#parallelSort}는 범위를 공통 ForkJoinPool의 작업으로 나눠 정렬한 뒤 병합하고,
+     * 크기가 분할 기준(8192개) 이하이거나 병렬성이 1이면 {@link #sort}와 같은 순차 정렬로 처리한다.
+     *
+     * @param c 비교자, {@code null}이면 원소의 자연 순서를 따름
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        @SuppressWarnings("unchecked")
+        final E[] a = (E[]) ownedArray();
+        Arrays.parallelSort(a, 0, size, c);
+    }
+
+    /**
+     * 배열의 [0, size) 범위를 나눠가며 순회하는 스플리터레이터를 반환한다.
+     * 기본 {@link java.util.Collection#spliterator()}는 이터레이터를 감싸서 배치 단위로 잘라내기 때문에
+     * 병렬 스트림에서 작업이 고르게 나뉘지 않는다. 이 구현은 배열 범위를 절반씩 나누고
+     * 정확한 크기를 알려주므로 {@code stream().parallel()}이 코어 수만큼 고르게 분할된다.
+     *
+     * @return {@link Spliterator#ORDERED}, {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} 특성을 가진 스플리터레이터
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator(0, -1);
+    }
+
+    // 배열의 범위를 표현하는 스플리터레이터
+    // java.util.ArrayList와 같이 처음 사용될 때 끝 위치(fence)를 정하는 지연 바인딩 방식을 사용함
+    final class ArrayListSpliterator implements Spliterator<E> {
+        // 다음으로 처리할 위치
+        private int index;
+        // 끝 위치(포함하지 않음), 사용 전에는 -1
+        private int fence;
+
+        ArrayListSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        // 처음 사용할 때 끝 위치를 현재 크기로 정함
+        private int getFence() {
+            int hi;
+            if ((hi = fence) < 0)
+                hi = fence = size;
+            return hi;
+        }
+
+        // 남은 범위를 절반으로 나누고 앞쪽 절반을 새 스플리터레이터로 떼어줌
+        @Override
+        public ArrayListSpliterator trySplit() {
+            int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+            return (lo >= mid) ? null : new ArrayListSpliterator(lo, index = mid);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence(), i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept((E) array[i]);
+                return true;
+            }
+            return false;
+        }
+
+        // 배열과 범위를 지역 변수로 잡아두고 한 번에 순회함
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            final Object[] a = array;
+            int i, hi = getFence();
+            if ((i = index) >= 0 && hi <= a.length) {
+                for (index = hi; i < hi; i++)
+                    action.accept((E) a[i]);
+                return;
+            }
+            // 순회 도중 배열이 줄어든 경우
+            throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     private void fastRemove(Object[] objects, int i) {
         final int newSize;
         if ((newSize = size - 1) > i)
@@ -396,11 +638,10 @@ public class ArrayList<E> implements List<E>, Cloneable {
     // 처음 조회되는 특정 값 삭제
     @Override
     public boolean remove(Object o) {
-        final Object[] objects = array;
         int i = indexOf(o);
         if (i < 0)
             return false;
-        fastRemove(objects, i);
+        fastRemove(ownedArray(), i);
         return true;
     }
 
@@ -408,7 +649,7 @@ public class ArrayList<E> implements List<E>, Cloneable {
     @Override
     public E remove(int index) {
         checkIndexRange(index);
-        final Object[] objects = array;
+        final Object[] objects = ownedArray();
 
         @SuppressWarnings("unchecked") 
         E removeValue = (E) objects[index];
@@ -418,11 +659,112 @@ public class ArrayList<E> implements List<E>, Cloneable {
         return removeValue;
     }
 
+    /**
+     * [fromIndex, toIndex) 범위의 요소를 한 번의 복사로 삭제함
+     * 하나씩 remove를 호출하면 매번 뒤쪽을 당겨야 해서 O(n·k)가 됨
+     *
+     * @param fromIndex 삭제를 시작할 인덱스
+     * @param toIndex 삭제를 끝낼 인덱스(포함하지 않음)
+     * @throws IndexOutOfBoundsException 범위가 올바르지 않은 경우
+     */
+    protected void removeRange(int fromIndex, int toIndex) {
+        subListRangeCheck(fromIndex, toIndex, size);
+        final Object[] objects = ownedArray();
+        final int s = size;
+        System.arraycopy(objects, toIndex, objects, fromIndex, s - toIndex);
+        // 당긴만큼 뒤에 남은 값들의 참조를 끊음
+        for (int i = (size = s - (toIndex - fromIndex)); i < s; i++)
+            objects[i] = null;
+    }
+
+    /**
+     * 배열의 [from, to) 범위를 한 번의 용량 확인과 복사로 끝에 추가함
+     * addAll(Collection)과 달리 toArray로 한 번 더 복사하지 않음
+     *
+     * @param values 추가할 요소들
+     * @param from 복사를 시작할 위치
+     * @param to 복사를 끝낼 위치(포함하지 않음)
+     * @throws IndexOutOfBoundsException 범위가 배열을 벗어난 경우
+     */
+    protected void addRange(Object[] values, int from, int to) {
+        final int addSize = to - from;
+        if (from < 0 || to > values.length || addSize < 0)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Length: " + values.length + ", From: " + from + ", To: " + to
+                );
+        if (addSize == 0)
+            return;
+        final int s;
+        if (array.length - (s = size) < addSize)
+            array = growUp(s + addSize);
+        else
+            ownedArray();
+        System.arraycopy(values, from, array, s, addSize);
+        size = s + addSize;
+    }
+
+    /**
+     * 끝에서부터 최대 n개의 요소를 dest[destPos]부터 담고 한꺼번에 삭제함
+     * 마지막 요소가 dest[destPos]에 담기므로 끝에서부터 하나씩 삭제한 것과 순서가 같음
+     *
+     * @param dest 꺼낸 요소를 담을 배열
+     * @param destPos 담기 시작할 위치
+     * @param n 꺼낼 최대 개수
+     * @return 실제로 꺼낸 개수, 요소가 n개보다 적으면 있는 만큼만 꺼냄
+     * @throws IllegalArgumentException n이 음수인 경우
+     * @throws IndexOutOfBoundsException 꺼낸 요소가 dest에 다 들어가지 않는 경우
+     */
+    protected int removeTail(Object[] dest, int destPos, int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("꺼낼 개수는 음수일 수 없습니다: " + n);
+        final int s = size;
+        final int count = Math.min(n, s);
+        if (destPos < 0 || count > dest.length - destPos)
+            throw new IndexOutOfBoundsException(
+                "담을 배열이 작습니다. Length: " + dest.length + ", Position: " + destPos + ", Count: " + count
+                );
+        final Object[] objects = array;
+        for (int i = 0; i < count; i++)
+            dest[destPos + i] = objects[s - 1 - i];
+        if (count == s)
+            clear();
+        else if (count > 0)
+            removeRange(s - count, s);
+        return count;
+    }
+
+    /**
+     * 끝에서부터 요소를 하나씩 action에 넘기고, 넘긴 요소를 마지막에 한꺼번에 삭제함
+     * action이 예외를 던지면 그때까지 넘긴 요소만 삭제하고 예외를 그대로 던짐
+     * action 안에서 이 배열리스트를 수정하면 결과는 정의되지 않음
+     *
+     * @param action 요소를 받을 동작
+     * @return 넘긴 요소의 개수
+     */
+    @SuppressWarnings("unchecked")
+    protected int removeTail(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final Object[] objects = array;
+        final int s = size;
+        int i = s;
+        try {
+            for (; i > 0; i--)
+                action.accept((E) objects[i - 1]);
+        } finally {
+            if (i == 0)
+                clear();
+            else if (i < s)
+                removeRange(i, s);
+        }
+        return s;
+    }
+
     // false면 컬렉션과 범위 내 일치하는 것을 모두 제거, true면 일치하지 않는 것을 모두 제거
     boolean batchRemove(Collection<?> c, boolean complement,
                         final int from, final int end) {
         Objects.requireNonNull(c);
-        final Object[] objects = array;
+        c = probeOf(c, end - from);
+        Object[] objects = array;
         int i;
         // 모두 complement와 같으면 삭제할 필요가 없기 때문에 false를 반환함
         // 끝까지 탐색하면서 다른 것이 있으면 탈출하고 삭제작업 시작
@@ -432,6 +774,8 @@ public class ArrayList<E> implements List<E>, Cloneable {
             if (c.contains(objects[i]) != complement)
                 break;
         }
+        // 여기서부터 배열에 쓰므로 공유 중이면 복사함
+        objects = ownedArray();
         // 처음으로 삭제할 값의 인덱스 저장, i는 그 다음부터 시작함
         int w = i++;
         try {
@@ -447,12 +791,70 @@ public class ArrayList<E> implements List<E>, Cloneable {
         } finally {
             // 앞으로 값들을 당긴만큼 뒤에 남은 쓸모 없는 값들을 모두 삭제함
             System.arraycopy(objects, end, objects, w, size - end);
-            for (int to = size, j = (size -= end - w); i < to; i++)
+            for (int to = size, j = (size -= end - w); j < to; j++)
                 objects[j] = null;
         }
         return true;
     }
 
+    // 이 크기 이상이면 contains를 반복하는 대신 해시 색인을 만들어 탐색함
+    private static final int HASH_PROBE_THRESHOLD = 16;
+
+    /**
+     * batchRemove에서 원소마다 호출할 contains의 대상 컬렉션을 고름
+     * 리스트 같은 컬렉션의 contains는 O(m)이라 removeAll 전체가 O(n·m)이 되므로
+     * 양쪽이 충분히 크면 임시 HashSet을 만들어 O(n + m)으로 바꿈
+     * Set은 이미 빠른 contains를 가지고 있고, 비교 기준(TreeSet의 비교자 등)이 equals와 다를 수 있으므로 그대로 씀
+     *
+     * @param c 비교할 컬렉션
+     * @param n 탐색할 범위의 크기
+     * @return contains를 호출할 컬렉션
+     */
+    private static Collection<?> probeOf(Collection<?> c, int n) {
+        if (c instanceof Set || n < HASH_PROBE_THRESHOLD || c.size() < HASH_PROBE_THRESHOLD)
+            return c;
+        return new HashSet<>(c);
+    }
+
+    /**
+     * 조건을 만족하는 원소를 모두 삭제함
+     * 기본 구현은 Iterator.remove로 하나씩 지우면서 매번 뒤쪽을 당기기 때문에 O(n²)가 될 수 있다.
+     * 이 구현은 살아남을 원소를 비트셋에 표시해두고 한 번에 당겨서 O(n)으로 처리한다.
+     * 조건 검사 도중 예외가 발생하면 리스트는 바뀌지 않는다.
+     *
+     * @param filter 삭제할 원소에 대해 {@code true}를 반환하는 조건
+     * @return 하나라도 삭제되었으면 {@code true}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        Object[] objects = array;
+        final int end = size;
+        int i;
+        // 처음으로 삭제할 원소를 찾음, 없다면 바꿀 것이 없음
+        for (i = 0; i < end && !filter.test((E) objects[i]); i++)
+            ;
+        if (i == end)
+            return false;
+        // 첫 삭제 위치 이후로 살아남을 원소의 위치를 비트셋에 표시함
+        final int beg = i;
+        final long[] survivors = new long[((end - beg - 1) >> 6) + 1];
+        for (i = beg + 1; i < end; i++)
+            if (!filter.test((E) objects[i]))
+                survivors[(i - beg) >> 6] |= 1L << (i - beg);
+        // 표시된 원소만 앞으로 당기고 남은 칸의 참조를 끊음
+        objects = ownedArray();
+        int w = beg;
+        for (i = beg + 1; i < end; i++)
+            if ((survivors[(i - beg) >> 6] & (1L << (i - beg))) != 0)
+                objects[w++] = objects[i];
+        for (i = w; i < end; i++)
+            objects[i] = null;
+        size = w;
+        return true;
+    }
+
 
     @Override
     public boolean removeAll(Collection<?> c) {
@@ -471,6 +873,7 @@ public class ArrayList<E> implements List<E>, Cloneable {
 
     // 서브리스트 구현은 기존 Java와 다르게 커스터마이징 함.
     // 기존 자바의 구현은 무겁고 메모리 누수가 발생하기 때문에 아예 새로운 리스트를 반환하게 변경
+    // 복사 없이 원본 범위를 읽고 써야 한다면 subListView를 사용
     @SuppressWarnings("unchecked")
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
@@ -484,6 +887,126 @@ public class ArrayList<E> implements List<E>, Cloneable {
         return list;
     }
 
+    private static void subListRangeCheck(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Size: " + size + ", From: " + fromIndex + ", To: " + toIndex
+                );
+    }
+
+    /**
+     * 복사 없이 내부 배열의 [fromIndex, toIndex) 범위를 그대로 보여주는 뷰를 반환한다.
+     * {@link #subList}는 범위를 새 리스트로 복사하기 때문에 창(window) 단위로 처리하면 매번 할당이 생기는데,
+     * 이 뷰는 오프셋과 크기만 가지고 원본 배열을 직접 읽고 쓴다.
+     * 뷰를 통한 추가/삭제는 원본에 반영되지만, 뷰 밖에서 원본의 구조를 바꾸면 뷰의 범위는 갱신되지 않는다.
+     * (이 배열리스트는 modCount를 두지 않으므로 이를 감지하지도 못한다.)
+     *
+     * @param fromIndex 뷰의 시작 인덱스
+     * @param toIndex 뷰의 끝 인덱스(포함하지 않음)
+     * @return 원본 배열리스트의 범위를 공유하는 리스트 뷰
+     * @throws IndexOutOfBoundsException 범위가 올바르지 않은 경우
+     */
+    public List<E> subListView(int fromIndex, int toIndex) {
+        subListRangeCheck(fromIndex, toIndex, size);
+        return new SubListView(null, fromIndex, toIndex);
+    }
+
+    // java.util.ArrayList의 SubList와 같이 부모 뷰를 따라 크기 변화를 전파함
+    private class SubListView extends AbstractList<E> implements RandomAccess {
+        // 중첩된 뷰일 경우 바깥 뷰, 원본에서 바로 만든 뷰면 null
+        private final SubListView parent;
+        // 원본 배열 기준의 시작 위치
+        private final int offset;
+        private int size;
+
+        SubListView(SubListView parent, int fromIndex, int toIndex) {
+            this.parent = parent;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) array[offset + index];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            final Object[] objects = ownedArray();
+            E oldValue = (E) objects[offset + index];
+            objects[offset + index] = element;
+            return oldValue;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkPositionIndex(index);
+            ArrayList.this.add(offset + index, element);
+            updateSize(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            E result = ArrayList.this.remove(offset + index);
+            updateSize(-1);
+            return result;
+        }
+
+        // clear()가 원소마다 remove를 부르지 않고 한 번에 당기도록 함
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            ArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSize(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            checkPositionIndex(index);
+            int addSize = c.size();
+            if (!ArrayList.this.addAll(offset + index, c))
+                return false;
+            updateSize(addSize);
+            return true;
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            subListRangeCheck(fromIndex, toIndex, size);
+            return new SubListView(this, offset + fromIndex, offset + toIndex);
+        }
+
+        private void checkPositionIndex(int index) {
+            if (index < 0 || index > size)
+                throw new IndexOutOfBoundsException(
+                    "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                    );
+        }
+
+        // 바깥 뷰들의 크기도 함께 맞춰줌
+        private void updateSize(int sizeChange) {
+            SubListView view = this;
+            do {
+                view.size += sizeChange;
+                view = view.parent;
+            } while (view != null);
+        }
+    }
+
     // 내부 배열을 복사해서 반환함
     @Override
     public Object[] toArray() {
@@ -506,12 +1029,20 @@ public class ArrayList<E> implements List<E>, Cloneable {
         return a;
     }
 
-    // 배열리스트 복사
+    /**
+     * 배열리스트 복사
+     * 배열을 바로 복사하지 않고 양쪽이 같은 배열을 공유하도록 표시만 해둔다.
+     * 어느 쪽이든 처음으로 구조를 바꾸거나 set을 할 때 그쪽이 자기 배열로 복사하므로,
+     * 수정되지 않는 복사본(백트래킹 체크포인트 등)은 시간과 메모리 모두 O(1)이다.
+     *
+     * @return 얕은 복사가 된 배열리스트
+     */
     @Override
-    protected Object clone() {
+    public Object clone() {
         try {
             ArrayList<?> v = (ArrayList<?>) super.clone();
-            v.array = Arrays.copyOf(array, size);
+            if (array.length > 0)
+                shared = v.shared = true;
             return v;
         } catch (CloneNotSupportedException e) {
             throw new InternalError(e);
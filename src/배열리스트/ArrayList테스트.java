@@ -1,6 +1,8 @@
 package 배열리스트;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
 public class ArrayList테스트 {
     public static void main(String[] args){
@@ -20,6 +22,40 @@ public class ArrayList테스트 {
 
         System.out.println(test);
 
+        ArrayList<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++)
+            large.add(i);
+
+        // 배열 범위를 절반씩 나누는 스플리터레이터로 병렬 스트림 처리
+        System.out.println(large.spliterator().estimateSize());
+        System.out.println(large.stream().parallel()
+            .filter(i -> i % 2 == 0)
+            .mapToLong(Integer::longValue)
+            .sum());
+
+        // 내부 배열을 그 자리에서 정렬
+        test.sort(Comparator.reverseOrder());
+        System.out.println(test);
+        large.parallelSort(Comparator.reverseOrder());
+        System.out.println(large.get(0) + ", " + large.get(large.size() - 1));
+
+        // 복사 없이 원본을 공유하는 서브리스트 뷰
+        List<Integer> page = large.subListView(10, 15);
+        System.out.println(page);
+        page.set(0, -1);
+        page.subList(1, 3).clear();
+        System.out.println(page);
+        System.out.println(large.get(10) + ", " + large.size());
+
+        // 해시 색인을 거치는 removeAll과 한 번에 당기는 removeIf
+        ArrayList<Integer> removing = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            removing.add(i);
+        large.removeAll(removing);
+        System.out.println(large.size());
+        large.removeIf(i -> i % 3 != 0);
+        System.out.println(large.size() + ", " + large.get(0) + ", " + large.get(large.size() - 1));
+
     }
 }
 
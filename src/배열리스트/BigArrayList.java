@@ -0,0 +1,270 @@
+package 배열리스트;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+
+/**
+ * 고정 크기 청크를 이어붙여 원소를 담는 배열리스트
+ * {@link ArrayList}는 용량이 모자랄 때마다 전체 배열을 새 배열로 복사하므로
+ * 원소가 1억 개를 넘어가면 한 번의 growUp이 수백 밀리초씩 걸리고 그 순간 메모리도 두 배로 필요하다.
+ * 또 배열의 길이가 int라서 {@code Integer.MAX_VALUE}개를 넘길 수 없다.
+ *
+ * 이 리스트는 원소를 {@code 1 << CHUNK_SHIFT}개짜리 청크에 나눠 담고 청크들의 목록(디렉터리)만 들고 있는다.
+ * 용량이 모자라면 새 청크 하나만 할당하므로 두 번째 청크부터는 기존 원소를 복사하지 않고,
+ * 인덱스는 long이라 2^31개를 넘는 원소도 담을 수 있다.
+ *
+ * 작은 리스트가 처음부터 청크 하나(2^16칸)를 통째로 잡지 않도록, 첫 청크만 작게 시작해서
+ * {@link ArrayList}처럼 키우다가 {@code CHUNK_SIZE}에 이르면 그 다음부터 청크를 붙인다.
+ * 첫 청크를 키울 때와 디렉터리 배열을 {@link ArrayList#newCapacity}로 늘릴 때는 복사가 일어나므로
+ * 추가는 최악 O(1)이 아니라 상각 O(1)이다. 다만 복사하는 양은 첫 청크의 원소(최대 2^16개)나
+ * 청크 수만큼의 참조뿐이라 원소 수가 커져도 한 번에 멈추는 시간은 늘지 않는다.
+ *
+ * 크기가 int 범위를 넘을 수 있어서 {@link java.util.List}는 구현하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class BigArrayList<E> implements Iterable<E> {
+
+    // 청크 하나에 담는 원소 수는 2^16
+    static final int CHUNK_SHIFT = 16;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // 기본 디렉터리 크기
+    private static final int DEFAULT_DIRECTORY_CAPACITY = 16;
+
+    // 첫 청크의 시작 크기
+    private static final int DEFAULT_FIRST_CHUNK_CAPACITY = 16;
+
+    // 빈 디렉터리의 경우 인스턴스를 공유하기 위한 배열 인스턴스
+    private static final Object[][] EMPTY_DIRECTORY = {};
+
+    // 청크들의 목록, 첫 청크만 CHUNK_SIZE보다 작을 수 있고 그 경우 청크는 하나뿐임
+    private Object[][] directory;
+
+    // 할당된 청크 수
+    private int chunkCount;
+
+    private long size;
+
+    public BigArrayList(){
+        this.directory = EMPTY_DIRECTORY;
+    }
+
+    // 할당된 청크로 담을 수 있는 원소 수
+    private long capacity() {
+        final int c = chunkCount;
+        return (c == 0) ? 0 : ((long) (c - 1) << CHUNK_SHIFT) + directory[c - 1].length;
+    }
+
+    // 최소 minCapacity개를 담도록 용량을 늘림, 첫 청크가 덜 찼으면 그 청크를 키우고 아니면 청크를 하나 붙임
+    private void grow(long minCapacity) {
+        final int c = chunkCount;
+        if (c == 1 && directory[0].length < CHUNK_SIZE) {
+            final Object[] first = directory[0];
+            final int want = (int) Math.min(CHUNK_SIZE, minCapacity);
+            directory[0] = Arrays.copyOf(first,
+                Math.min(CHUNK_SIZE, Math.max(ArrayList.newCapacity(first.length, want), want)));
+            return;
+        }
+        if (c == directory.length)
+            directory = Arrays.copyOf(directory,
+                (c == 0) ? DEFAULT_DIRECTORY_CAPACITY : ArrayList.newCapacity(c, c + 1));
+        directory[c] = (c == 0)
+            ? new Object[(int) Math.min(CHUNK_SIZE, Math.max(DEFAULT_FIRST_CHUNK_CAPACITY, minCapacity))]
+            : new Object[CHUNK_SIZE];
+        chunkCount = c + 1;
+    }
+
+    private void checkElementIndex(long index){
+        if(size <= index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                );
+    }
+
+    /**
+     * 원소를 끝에 추가한다. 첫 청크가 다 차면 그 뒤로는 새 청크를 하나 할당할 뿐 기존 원소는 옮기지 않는다.
+     * @param element 추가할 원소
+     * @return {@code true}
+     */
+    public boolean add(E element) {
+        final long s = size;
+        if (s == capacity())
+            grow(s + 1);
+        directory[(int) (s >>> CHUNK_SHIFT)][(int) s & CHUNK_MASK] = element;
+        size = s + 1;
+        return true;
+    }
+
+    // 콜렉션의 모든 것을 추가한다.
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] addArray = c.toArray();
+        final int addSize = addArray.length;
+        if (addSize == 0)
+            return false;
+        // 청크 경계마다 끊어서 한 번씩 복사함
+        int copied = 0;
+        while (copied < addSize) {
+            final long s = size;
+            if (s == capacity())
+                grow(s + (addSize - copied));
+            final Object[] chunk = directory[(int) (s >>> CHUNK_SHIFT)];
+            final int offset = (int) s & CHUNK_MASK;
+            final int length = Math.min(addSize - copied, chunk.length - offset);
+            System.arraycopy(addArray, copied, chunk, offset, length);
+            copied += length;
+            size = s + length;
+        }
+        return true;
+    }
+
+    // 인덱스의 값을 반환
+    @SuppressWarnings("unchecked")
+    public E get(long index) {
+        checkElementIndex(index);
+        return (E) directory[(int) (index >>> CHUNK_SHIFT)][(int) index & CHUNK_MASK];
+    }
+
+    // 인덱스의 값을 변경
+    @SuppressWarnings("unchecked")
+    public E set(long index, E element) {
+        checkElementIndex(index);
+        final Object[] chunk = directory[(int) (index >>> CHUNK_SHIFT)];
+        final int offset = (int) index & CHUNK_MASK;
+        E oldValue = (E) chunk[offset];
+        chunk[offset] = element;
+        return oldValue;
+    }
+
+    /**
+     * 마지막 원소를 삭제하고 반환한다.
+     * @return 마지막 원소
+     * @throws NoSuchElementException 리스트가 비어있는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        final long s = size;
+        if (s == 0)
+            throw new NoSuchElementException();
+        final long last = s - 1;
+        final Object[] chunk = directory[(int) (last >>> CHUNK_SHIFT)];
+        final int offset = (int) last & CHUNK_MASK;
+        E oldValue = (E) chunk[offset];
+        chunk[offset] = null;
+        size = last;
+        return oldValue;
+    }
+
+    // 범위를 탐색해서 주어진 오브젝트와 같은 인덱스를 반환
+    public long indexOf(Object o) {
+        final long s = size;
+        for (int c = 0; (long) c << CHUNK_SHIFT < s; c++) {
+            final Object[] chunk = directory[c];
+            final int end = (int) Math.min(CHUNK_SIZE, s - ((long) c << CHUNK_SHIFT));
+            for (int i = 0; i < end; i++)
+                if (Objects.equals(o, chunk[i]))
+                    return ((long) c << CHUNK_SHIFT) + i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * 모든 원소를 삭제하고 청크를 놓아준다.
+     */
+    public void clear() {
+        directory = EMPTY_DIRECTORY;
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * 크기를 넘어서는 뒤쪽의 빈 청크와 디렉터리의 빈 칸을 놓아준다.
+     * 청크가 하나만 남으면 그 청크도 크기에 맞춘다.
+     */
+    public void trimToSize() {
+        final int usedChunks = (int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT);
+        if (usedChunks < directory.length) {
+            directory = (usedChunks == 0) ? EMPTY_DIRECTORY : Arrays.copyOf(directory, usedChunks);
+            chunkCount = usedChunks;
+        }
+        if (usedChunks == 1 && directory[0].length > size)
+            directory[0] = Arrays.copyOf(directory[0], (int) size);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    // 청크와 청크 안의 위치를 따로 들고 다니는 이터레이터
+    private class Itr implements Iterator<E> {
+        // 다음으로 리턴되어야 할 요소의 위치
+        long cursor;
+
+        Itr() {}
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E next() {
+            final long i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            cursor = i + 1;
+            return (E) directory[(int) (i >>> CHUNK_SHIFT)][(int) i & CHUNK_MASK];
+        }
+    }
+
+    // 청크 단위로 순회해서 원소마다 인덱스를 나누지 않음
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final long s = size;
+        final Object[][] d = directory;
+        for (int c = 0; (long) c << CHUNK_SHIFT < s; c++) {
+            final Object[] chunk = d[c];
+            final int end = (int) Math.min(CHUNK_SIZE, s - ((long) c << CHUNK_SHIFT));
+            for (int i = 0; i < end; i++)
+                action.accept((E) chunk[i]);
+        }
+    }
+
+    // ToString() 오버라이드
+    @Override
+    public String toString() {
+        Iterator<E> it = iterator();
+        if (! it.hasNext())
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (;;) {
+            E e = it.next();
+            sb.append(e == this ? "(this Collection)" : e);
+            if (! it.hasNext())
+                return sb.append(']').toString();
+            sb.append(',').append(' ');
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package 배열리스트;
+
+import java.util.List;
+
+public class BigArrayList테스트 {
+    public static void main(String[] args){
+        BigArrayList<Integer> big = new BigArrayList<>();
+
+        // 청크 경계를 여러 번 넘도록 추가
+        for (int i = 0; i < 200_000; i++)
+            big.add(i);
+        big.addAll(List.of(-1, -2, -3));
+
+        System.out.println(big.size());
+        System.out.println(big.get(65_535) + ", " + big.get(65_536));
+        System.out.println(big.indexOf(-2));
+        System.out.println(big.removeLast());
+        big.set(0L, 42);
+
+        long[] sum = {0};
+        big.forEach(i -> sum[0] += i);
+        System.out.println(sum[0]);
+
+        big.trimToSize();
+        System.out.println(big.size());
+
+        // 원소가 적으면 첫 청크를 작게 잡고 키워감
+        BigArrayList<String> small = new BigArrayList<>();
+        for (int i = 0; i < 20; i++)
+            small.add("s" + i);
+        while (small.size() > 3)
+            small.removeLast();
+        small.trimToSize();
+        small.add("t");
+        System.out.println(small + " " + small.size());
+    }
+}
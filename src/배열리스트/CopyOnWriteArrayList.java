@@ -0,0 +1,485 @@
+package 배열리스트;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * 쓰기마다 배열을 새로 만들어 바꿔 끼우는(copy-on-write) 배열리스트
+ * 설정값처럼 여러 스레드가 계속 순회하고 수정은 드문 리스트를 공유할 때 쓴다.
+ * {@link ArrayList}는 스레드 안전하지 않고, 순회 도중 다른 스레드가 수정하면
+ * 이터레이터가 {@link java.util.ConcurrentModificationException}을 던질 수 있다.
+ *
+ * 읽기는 volatile 배열 참조를 한 번 읽어 그 배열만 보므로 잠금이 없다.
+ * 이터레이터도 만들어질 때의 배열(스냅샷)을 순회하므로 예외 없이 일관된 내용을 본다.
+ * 쓰기는 잠금 안에서 배열을 복사해 고친 뒤 참조를 바꿔 끼운다.
+ * 여러 번의 쓰기는 {@link #mutate}로 묶으면 배열 복사를 한 번만 한다.
+ *
+ * 배열과 크기는 {@link Snapshot} 하나에 함께 담아 공개하므로, mutate가 남긴 빈 칸(용량)을
+ * 잘라내지 않고 그대로 공개할 수 있다. 한 번의 쓰기(add, remove 등)는 크기에 딱 맞는 배열을 만든다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class CopyOnWriteArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    // 빈 배열의 경우 인스턴스를 공유하기 위한 배열 인스턴스
+    private static final Object[] EMPTY_ARRAY = {};
+
+    // 쓰기끼리 순서를 맞추기 위한 잠금 객체
+    private final Object lock = new Object();
+
+    /**
+     * 공개된 원소들, [0, size)가 원소이고 그 뒤는 mutate가 남긴 빈 칸
+     * 한 번 공개된 배열은 절대 수정하지 않음
+     */
+    static final class Snapshot {
+        final Object[] array;
+        final int size;
+
+        Snapshot(Object[] array, int size) {
+            this.array = array;
+            this.size = size;
+        }
+    }
+
+    // 빈 리스트의 경우 인스턴스를 공유하기 위한 스냅샷
+    private static final Snapshot EMPTY = new Snapshot(EMPTY_ARRAY, 0);
+
+    // 현재 원소들, 읽기는 이 참조를 한 번만 읽고 그 스냅샷만 봄
+    private volatile Snapshot snapshot;
+
+    public CopyOnWriteArrayList(){
+        this.snapshot = EMPTY;
+    }
+
+    public CopyOnWriteArrayList(Collection<? extends E> c){
+        Object[] es = c.toArray();
+        this.snapshot = (es.length == 0) ? EMPTY : exact(Arrays.copyOf(es, es.length, Object[].class));
+    }
+
+    // 크기에 딱 맞는 배열로 스냅샷을 만듦
+    private static Snapshot exact(Object[] es) {
+        return (es.length == 0) ? EMPTY : new Snapshot(es, es.length);
+    }
+
+    // 잠금 안에서 현재 배열을 공유하는 작업용 배열리스트를 만듦
+    // 배열리스트는 처음 쓸 때 자기 배열로 복사하므로(용량이 모자라면 키우면서) 공개된 배열은 바뀌지 않음
+    private ArrayList<E> workingCopy(Snapshot current) {
+        return new ArrayList<>(current.array, current.size, true);
+    }
+
+    // 작업용 배열리스트의 배열을 복사 없이 그대로 공개함, 쓰기가 없었으면 아무것도 하지 않음
+    private void publish(Snapshot current, ArrayList<E> work) {
+        final Object[] es = work.array;
+        final int n = work.size();
+        if (es == current.array && n == current.size)
+            return;
+        snapshot = (n == 0) ? EMPTY : new Snapshot(es, n);
+    }
+
+    /**
+     * 여러 번의 쓰기를 한 번의 복사로 묶는다.
+     * 현재 배열을 공유하는 {@link ArrayList}를 action에 넘기고, action이 끝나면 그 배열을 그대로 공개한다.
+     * 배열은 action 안의 첫 쓰기에서 한 번 복사되고, 그 뒤로는 용량이 모자랄 때만 배열리스트의 증가 정책대로 다시 복사된다.
+     * 많이 추가할 때는 action 안에서 먼저 {@link ArrayList#ensureCapacity}를 부르면 복사가 한 번으로 끝난다.
+     *
+     * action이 실행되는 동안 다른 쓰기는 기다리고, 읽기는 이전 배열을 계속 본다.
+     * action이 예외를 던지면 아무것도 바뀌지 않는다.
+     * 넘겨받은 배열리스트를 action 밖으로 빼내서 쓰면 안 된다.
+     *
+     * @param action 작업용 배열리스트를 수정하는 함수
+     */
+    public void mutate(Consumer<? super ArrayList<E>> action) {
+        Objects.requireNonNull(action);
+        synchronized (lock) {
+            final Snapshot current = snapshot;
+            ArrayList<E> work = workingCopy(current);
+            action.accept(work);
+            publish(current, work);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        final Snapshot s = snapshot;
+        Objects.checkIndex(index, s.size);
+        return (E) s.array[index];
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            Objects.checkIndex(index, s.size);
+            E oldValue = (E) s.array[index];
+            if (oldValue != element) {
+                Object[] es = Arrays.copyOf(s.array, s.size);
+                es[index] = element;
+                snapshot = exact(es);
+            }
+            return oldValue;
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            final int len = s.size;
+            Object[] newArray = Arrays.copyOf(s.array, len + 1);
+            newArray[len] = element;
+            snapshot = exact(newArray);
+            return true;
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            final Object[] es = s.array;
+            final int len = s.size;
+            if (index > len || index < 0)
+                throw new IndexOutOfBoundsException(
+                    "인덱스 위치 밖입니다. Size: " + len + ", Index: " + index
+                    );
+            Object[] newArray = new Object[len + 1];
+            System.arraycopy(es, 0, newArray, 0, index);
+            System.arraycopy(es, index, newArray, index + 1, len - index);
+            newArray[index] = element;
+            snapshot = exact(newArray);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            final Object[] es = s.array;
+            final int len = s.size;
+            Objects.checkIndex(index, len);
+            E oldValue = (E) es[index];
+            Object[] newArray = new Object[len - 1];
+            System.arraycopy(es, 0, newArray, 0, index);
+            System.arraycopy(es, index + 1, newArray, index, len - index - 1);
+            snapshot = exact(newArray);
+            return oldValue;
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        synchronized (lock) {
+            int index = indexOf(o);
+            if (index < 0)
+                return false;
+            remove(index);
+            return true;
+        }
+    }
+
+    // 콜렉션의 모든 것을 한 번의 복사로 추가한다.
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] addArray = c.toArray();
+        if (addArray.length == 0)
+            return false;
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            Object[] newArray = Arrays.copyOf(s.array, s.size + addArray.length);
+            System.arraycopy(addArray, 0, newArray, s.size, addArray.length);
+            snapshot = exact(newArray);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Object[] addArray = c.toArray();
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            final Object[] es = s.array;
+            final int len = s.size;
+            if (index > len || index < 0)
+                throw new IndexOutOfBoundsException(
+                    "인덱스 위치 밖입니다. Size: " + len + ", Index: " + index
+                    );
+            if (addArray.length == 0)
+                return false;
+            Object[] newArray = new Object[len + addArray.length];
+            System.arraycopy(es, 0, newArray, 0, index);
+            System.arraycopy(addArray, 0, newArray, index, addArray.length);
+            System.arraycopy(es, index, newArray, index + addArray.length, len - index);
+            snapshot = exact(newArray);
+            return true;
+        }
+    }
+
+    // 아래의 일괄 삭제들은 ArrayList의 구현(해시 색인, 비트셋 압축)을 작업용 복사본에 그대로 사용함
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        synchronized (lock) {
+            final Snapshot current = snapshot;
+            ArrayList<E> work = workingCopy(current);
+            if (!work.removeAll(c))
+                return false;
+            publish(current, work);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        synchronized (lock) {
+            final Snapshot current = snapshot;
+            ArrayList<E> work = workingCopy(current);
+            if (!work.retainAll(c))
+                return false;
+            publish(current, work);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        synchronized (lock) {
+            final Snapshot current = snapshot;
+            ArrayList<E> work = workingCopy(current);
+            if (!work.removeIf(filter))
+                return false;
+            publish(current, work);
+            return true;
+        }
+    }
+
+    // List의 기본 sort, replaceAll은 listIterator().set으로 다시 써넣는데, 스냅샷 이터레이터는 set을 지원하지 않음
+    // 그래서 잠금 안에서 복사본을 고친 뒤 한 번에 공개함
+    @Override
+    public void sort(Comparator<? super E> c) {
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            Object[] es = Arrays.copyOf(s.array, s.size);
+            @SuppressWarnings("unchecked")
+            final E[] a = (E[]) es;
+            Arrays.sort(a, 0, a.length, c);
+            snapshot = exact(es);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        synchronized (lock) {
+            final Snapshot s = snapshot;
+            Object[] es = Arrays.copyOf(s.array, s.size);
+            for (int i = 0; i < es.length; i++)
+                es[i] = operator.apply((E) es[i]);
+            snapshot = exact(es);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            snapshot = EMPTY;
+        }
+    }
+
+    // 범위를 탐색해서 주어진 오브젝트와 같은 인덱스를 반환
+    private static int indexOfRange(Object o, Object[] es, int start, int end) {
+        for (int i = start; i < end; i++)
+            if (Objects.equals(o, es[i]))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        final Snapshot s = snapshot;
+        return indexOfRange(o, s.array, 0, s.size);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        final Snapshot s = snapshot;
+        final Object[] es = s.array;
+        for (int i = s.size - 1; i >= 0; i--)
+            if (Objects.equals(o, es[i]))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Snapshot s = snapshot;
+        return Arrays.copyOf(s.array, s.size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(T[] a) {
+        final Snapshot s = snapshot;
+        final Object[] es = s.array;
+        final int len = s.size;
+        if (a.length < len)
+            return (T[]) Arrays.copyOf(es, len, a.getClass());
+        System.arraycopy(es, 0, a, 0, len);
+        if (a.length > len)
+            a[len] = null;
+        return a;
+    }
+
+    // ArrayList와 같이 범위를 복사한 새 리스트를 반환함, 스냅샷이라 이후의 변경은 반영되지 않음
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        final Snapshot s = snapshot;
+        if (fromIndex < 0 || toIndex > s.size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Size: " + s.size + ", From: " + fromIndex + ", To: " + toIndex
+                );
+        return (List<E>) new ArrayList<>(Arrays.copyOfRange(s.array, fromIndex, toIndex), toIndex - fromIndex);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotItr<>(snapshot, 0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new SnapshotItr<>(snapshot, 0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        final Snapshot s = snapshot;
+        if (index > s.size || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + s.size + ", Index: " + index
+                );
+        return new SnapshotItr<>(s, index);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        final Snapshot s = snapshot;
+        return Spliterators.spliterator(s.array, 0, s.size, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        final Snapshot s = snapshot;
+        final Object[] es = s.array;
+        for (int i = 0, n = s.size; i < n; i++)
+            action.accept((E) es[i]);
+    }
+
+    /**
+     * 만들어질 때의 배열을 순회하는 이터레이터
+     * 배열이 바뀌지 않으므로 잠금도 modCount 검사도 필요 없고,
+     * 스냅샷을 통해 리스트를 수정하는 remove, set, add는 지원하지 않는다.
+     */
+    static final class SnapshotItr<E> implements ListIterator<E> {
+        private final Object[] snapshot;
+        private final int size;
+        // 다음으로 리턴되어야 할 요소의 위치
+        private int cursor;
+
+        SnapshotItr(Snapshot s, int cursor) {
+            this.snapshot = s.array;
+            this.size = s.size;
+            this.cursor = cursor;
+        }
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return (E) snapshot[cursor++];
+        }
+
+        @SuppressWarnings("unchecked")
+        public E previous() {
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            return (E) snapshot[--cursor];
+        }
+
+        public int nextIndex() {
+            return cursor;
+        }
+
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            final int size = this.size;
+            int i = cursor;
+            cursor = size;
+            for (; i < size; i++)
+                action.accept((E) snapshot[i]);
+        }
+    }
+}
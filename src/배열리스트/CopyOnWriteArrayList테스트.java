@@ -0,0 +1,79 @@
+package 배열리스트;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+public class CopyOnWriteArrayList테스트 {
+    public static void main(String[] args) throws Exception {
+        CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        // 이터레이터는 만들어질 때의 스냅샷을 순회함
+        Iterator<Integer> snapshot = list.iterator();
+        list.add(4);
+        while (snapshot.hasNext())
+            System.out.print(snapshot.next() + " ");
+        System.out.println();
+        System.out.println(list);
+
+        // 여러 번의 쓰기를 한 번의 복사로 묶음
+        list.mutate(work -> {
+            for (int i = 5; i <= 10; i++)
+                work.add(i);
+            work.removeIf(i -> i % 2 == 0);
+        });
+        System.out.println(list);
+
+        // 용량을 미리 잡으면 action 안에서 배열을 한 번만 복사하고, 공개할 때는 복사하지 않음
+        int[] copies = new int[1];
+        list.mutate(work -> {
+            work.ensureCapacity(work.size() + 1_000);
+            for (int i = 0; i < 1_000; i++)
+                work.add(i);
+            work.removeIf(i -> i >= 10);
+            copies[0] = work.resizeCount();
+        });
+        System.out.println(copies[0] + " " + list);
+
+        // 쓰기가 없으면 복사도 공개도 하지 않음
+        Iterator<Integer> before = list.iterator();
+        list.mutate(work -> copies[0] = work.resizeCount());
+        System.out.println(copies[0] + " " + before.next() + " " + list.size());
+
+        // 정렬과 일괄 변환도 잠금 안에서 복사본을 고쳐 한 번에 공개함, 이전 이터레이터는 이전 순서를 봄
+        CopyOnWriteArrayList<Integer> small = new CopyOnWriteArrayList<>(List.of(3, 1, 2));
+        Iterator<Integer> unsorted = small.iterator();
+        small.sort(null);
+        System.out.println(small + " " + unsorted.next());
+        small.replaceAll(x -> x * 10);
+        System.out.println(small);
+        small.sort(Comparator.reverseOrder());
+        System.out.println(small);
+        Collections.sort(small);
+        System.out.println(small);
+
+        // 읽는 스레드들이 도는 동안 쓰기를 해도 예외가 발생하지 않음
+        Thread[] readers = new Thread[4];
+        long[] sums = new long[readers.length];
+        for (int t = 0; t < readers.length; t++) {
+            final int id = t;
+            readers[t] = new Thread(() -> {
+                for (int round = 0; round < 10_000; round++)
+                    for (int value : list)
+                        sums[id] += value;
+            });
+            readers[t].start();
+        }
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+            list.remove(list.size() - 1);
+        }
+        for (Thread reader : readers)
+            reader.join();
+        System.out.println(list.size());
+    }
+}
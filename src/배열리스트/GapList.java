@@ -0,0 +1,202 @@
+package 배열리스트;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+
+/**
+ * 갭 버퍼(gap buffer)로 구현한 리스트
+ * {@link ArrayList#add(int, Object)}는 넣을 위치 뒤의 원소를 모두 한 칸씩 미므로
+ * 커서 근처에 계속 삽입하는 에디터 같은 작업에서는 삽입마다 O(n)이 든다.
+ *
+ * 갭 버퍼는 배열 중간에 비어있는 구간(갭)을 두고, 삽입과 삭제를 항상 갭의 경계에서 한다.
+ * 다른 위치에서 편집하려면 그 사이의 원소만큼 갭을 옮기면 되므로
+ * 커서 근처에서 편집하는 동안은 삽입과 삭제가 상각 O(1)이 된다.
+ * 조회는 인덱스가 갭 앞인지 뒤인지만 보고 바로 배열에 접근하므로 O(1)이다.
+ *
+ * <pre>
+ * [a b c _ _ _ d e]
+ *        ^     ^
+ *   gapStart  gapEnd
+ * </pre>
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class GapList<E> extends AbstractList<E> implements RandomAccess {
+
+    // 기본 배열리스트 크기
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // 빈 배열의 경우 인스턴스를 공유하기 위한 배열 인스턴스
+    private static final Object[] EMPTY_ARRAY = {};
+
+    // 원소와 갭을 함께 담는 배열
+    private Object[] array;
+
+    // 갭의 시작 위치 (= 갭 앞쪽 원소의 개수)
+    private int gapStart;
+
+    // 갭의 끝 위치(포함하지 않음), 여기부터 배열 끝까지가 갭 뒤쪽 원소
+    private int gapEnd;
+
+    public GapList(int capacity){
+        if (capacity < 0)
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + capacity);
+        this.array = (capacity == 0) ? EMPTY_ARRAY : new Object[capacity];
+        this.gapEnd = capacity;
+    }
+
+    public GapList(){
+        this.array = EMPTY_ARRAY;
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    @Override
+    public int size() {
+        return array.length - gapLength();
+    }
+
+    // 논리 인덱스를 배열의 실제 위치로 바꿈
+    private int physical(int index) {
+        return (index < gapStart) ? index : index + gapLength();
+    }
+
+    // 조회, 수정, 삭제할 위치를 검사함
+    private void checkElementIndex(int index){
+        if(size() <= index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size() + ", Index: " + index
+                );
+    }
+
+    // 추가 위치를 검사함. 끝(size)에 추가하는 것은 허용함
+    private void checkIndexRange(int index){
+        if(size() < index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size() + ", Index: " + index
+                );
+    }
+
+    /**
+     * 갭의 시작 위치를 index로 옮긴다.
+     * 갭과 index 사이의 원소만 갭의 반대편으로 옮기므로 O(|index - gapStart|)이다.
+     */
+    private void moveGap(int index) {
+        final Object[] a = array;
+        final int gs = gapStart, ge = gapEnd;
+        if (index < gs) {
+            // 갭 앞쪽의 [index, gapStart)를 갭 뒤쪽으로 옮김
+            final int n = gs - index;
+            System.arraycopy(a, index, a, ge - n, n);
+            Arrays.fill(a, index, Math.min(gs, ge - n), null);
+            gapStart = index;
+            gapEnd = ge - n;
+        } else if (index > gs) {
+            // 갭 뒤쪽의 원소를 갭 앞쪽으로 옮김
+            final int n = index - gs;
+            System.arraycopy(a, ge, a, gs, n);
+            Arrays.fill(a, Math.max(ge, index), ge + n, null);
+            gapStart = index;
+            gapEnd = ge + n;
+        }
+    }
+
+    // 갭이 비었을 때 배열을 키우고 늘어난 칸을 모두 갭에 줌
+    private void growUp(int minCapacity) {
+        final Object[] a = array;
+        final int oldCapacity = a.length;
+        final int newCapacity = (oldCapacity > 0)
+            ? ArrayList.newCapacity(oldCapacity, minCapacity)
+            : Math.max(DEFAULT_CAPACITY, minCapacity);
+        final Object[] grown = new Object[newCapacity];
+        final int tail = oldCapacity - gapEnd;
+        System.arraycopy(a, 0, grown, 0, gapStart);
+        System.arraycopy(a, gapEnd, grown, newCapacity - tail, tail);
+        array = grown;
+        gapEnd = newCapacity - tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        return (E) array[physical(index)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        final int p = physical(index);
+        E oldValue = (E) array[p];
+        array[p] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(E element) {
+        add(size(), element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndexRange(index);
+        moveGap(index);
+        if (gapStart == gapEnd)
+            growUp(array.length + 1);
+        array[gapStart++] = element;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        moveGap(index);
+        // 갭 바로 뒤의 원소를 갭에 편입시킴
+        final Object[] a = array;
+        E oldValue = (E) a[gapEnd];
+        a[gapEnd++] = null;
+        modCount++;
+        return oldValue;
+    }
+
+    // 배열리스트의 값을 모두 빈 값으로 초기화
+    @Override
+    public void clear() {
+        Arrays.fill(array, null);
+        gapStart = 0;
+        gapEnd = array.length;
+        modCount++;
+    }
+
+    /**
+     * 크기를 어레이의 크기에 맞추는 메소드
+     */
+    public void trimToSize() {
+        if (gapLength() > 0) {
+            final Object[] a = array;
+            final int s = size();
+            final Object[] trimmed = (s == 0) ? EMPTY_ARRAY : new Object[s];
+            System.arraycopy(a, 0, trimmed, 0, gapStart);
+            System.arraycopy(a, gapEnd, trimmed, gapStart, a.length - gapEnd);
+            array = trimmed;
+            gapEnd = gapStart;
+        }
+    }
+
+    // 갭을 건너뛰고 두 구간을 이어서 복사함
+    @Override
+    public Object[] toArray() {
+        final Object[] a = array;
+        final Object[] result = new Object[size()];
+        System.arraycopy(a, 0, result, 0, gapStart);
+        System.arraycopy(a, gapEnd, result, gapStart, a.length - gapEnd);
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package 배열리스트;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 커서 근처 삽입/삭제가 반복되는 에디터 형태의 작업에서
+ * {@link ArrayList}와 {@link GapList}를 비교한다.
+ * JIT 컴파일이 끝나도록 몇 번 돌린 뒤 마지막 결과를 출력한다.
+ */
+public class GapList벤치마크 {
+
+    static final int INITIAL = 200_000;
+    static final int EDITS = 200_000;
+
+    // 커서를 조금씩 움직이면서 커서 위치에 삽입하거나 삭제함
+    static long edit(List<Integer> list, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < INITIAL; i++)
+            list.add(i);
+
+        long start = System.nanoTime();
+        int cursor = list.size() / 2;
+        for (int i = 0; i < EDITS; i++) {
+            cursor = Math.max(0, Math.min(list.size(), cursor + random.nextInt(9) - 4));
+            if (random.nextInt(4) == 0 && cursor < list.size())
+                list.remove(cursor);
+            else
+                list.add(cursor, i);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // 결과가 같은지 확인하기 위해 몇 칸을 읽어봄
+        long check = 0;
+        for (int i = 0; i < list.size(); i += 997)
+            check += list.get(i);
+        System.out.print("(check " + check + ") ");
+        return elapsed;
+    }
+
+    public static void main(String[] args) {
+        for (int round = 1; round <= 3; round++) {
+            long arrayList = edit(new ArrayList<>(), round);
+            long gapList = edit(new GapList<>(), round);
+            System.out.printf("%n%d회차 ArrayList: %,d us, GapList: %,d us%n",
+                round, arrayList / 1000, gapList / 1000);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package 배열리스트;
+
+import java.util.Iterator;
+
+public class GapList테스트 {
+    public static void main(String[] args){
+        // 용량 2로 시작해서 추가하는 동안 배열을 키움
+        GapList<Integer> gap = new GapList<>(2);
+        for (int i = 0; i < 10; i++)
+            gap.add(i);
+        System.out.println(gap + " " + gap.size());
+
+        // 커서 근처에 계속 삽입, 갭은 한 번만 옮겨지고 이후로는 제자리에서 채움
+        for (int i = 0; i < 3; i++)
+            gap.add(5 + i, 100 + i);
+        System.out.println(gap);
+
+        // 갭 앞쪽으로 옮겨서 삽입 (갭 앞의 원소가 갭 뒤로 넘어감)
+        gap.add(1, -1);
+        System.out.println(gap);
+
+        // 다시 갭 뒤쪽으로 옮겨서 삽입 (갭 뒤의 원소가 갭 앞으로 넘어감)
+        gap.add(12, -2);
+        System.out.println(gap);
+
+        // 갭 양쪽 원소의 조회와 수정
+        System.out.println(gap.get(0) + ", " + gap.get(11) + ", " + gap.get(12) + ", " + gap.get(gap.size() - 1));
+        gap.set(0, 42);
+        gap.set(gap.size() - 1, 99);
+        System.out.println(gap);
+
+        // 양 끝에서 삭제
+        System.out.println(gap.remove(0) + ", " + gap.remove(gap.size() - 1));
+        System.out.println(gap.remove(0) + ", " + gap.remove(gap.size() - 1));
+        System.out.println(gap + " " + gap.size());
+
+        // 같은 위치에서 계속 삭제 (백스페이스)
+        for (int i = 0; i < 3; i++)
+            gap.remove(4);
+        System.out.println(gap);
+
+        // 크기에 맞춘 뒤에도 가운데 삽입 가능
+        gap.trimToSize();
+        gap.add(gap.size() / 2, 7);
+        System.out.println(gap + " " + gap.indexOf(7));
+
+        Iterator<Integer> it = gap.iterator();
+        int sum = 0;
+        while (it.hasNext())
+            sum += it.next();
+        System.out.println(sum);
+
+        // 모두 삭제한 뒤 다시 사용
+        while (!gap.isEmpty())
+            gap.remove(gap.size() - 1);
+        gap.add(0, 1);
+        gap.add(0, 0);
+        System.out.println(gap);
+
+        // 범위 밖 인덱스
+        try {
+            gap.add(5, 0);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println(e.getMessage());
+        }
+        try {
+            gap.remove(2);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println(e.getMessage());
+        }
+
+        gap.clear();
+        System.out.println(gap + " " + gap.isEmpty());
+    }
+}
@@ -0,0 +1,49 @@
+package 배열리스트;
+
+/**
+ * 배열리스트의 용량이 모자랄 때 새 용량을 얼마로 할지 정하는 정책
+ * 기본 정책은 java.util.ArrayList와 같이 1.5배({@link #DEFAULT})이다.
+ * 메모리가 빠듯한 캐시는 1.25배처럼 작게, 한꺼번에 많이 들어오는 적재 작업은 2배처럼 크게 잡으면
+ * 낭비되는 칸과 복사 횟수 사이에서 원하는 쪽을 고를 수 있다.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * 새 용량을 계산한다.
+     * 배열리스트는 반환값이 minCapacity보다 작으면 minCapacity를 사용한다.
+     *
+     * @param oldCapacity 현재 배열의 길이, 항상 0보다 큼
+     * @param minCapacity 필요한 최소 용량, int 범위를 넘쳐 음수가 될 수 있음
+     * @return 새 배열의 길이
+     * @throws OutOfMemoryError 더 이상 키울 수 없는 경우
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+
+    /**
+     * 현재 크기의 절반만큼 키우는 기본 정책
+     */
+    GrowthPolicy DEFAULT = ArrayList::newCapacity;
+
+    /**
+     * 현재 크기에 factor를 곱한 만큼 키우는 정책을 만든다.
+     * 곱한 값이 int 범위를 넘으면 {@code Integer.MAX_VALUE}로 자른다.
+     *
+     * @param factor 1보다 큰 증가 배율 (예: 1.25, 2.0)
+     * @return 배율로 키우는 정책
+     * @throws IllegalArgumentException factor가 1 이하이거나 숫자가 아닌 경우
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0) || Double.isInfinite(factor))
+            throw new IllegalArgumentException("증가 배율은 1보다 커야 합니다: " + factor);
+        return (oldCapacity, minCapacity) -> {
+            if (minCapacity < 0)
+                throw new OutOfMemoryError(
+                    "메모리 용량 초과: " + oldCapacity + "의 배열로는 확장할 수 없습니다."
+                );
+            // 배율이 작아도 최소 한 칸은 늘어나도록 함
+            long grown = Math.max((long) (oldCapacity * factor), oldCapacity + 1L);
+            return (int) Math.min(Math.max(grown, minCapacity), Integer.MAX_VALUE);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package 배열리스트;
+
+import java.util.Arrays;
+
+public class IntArrayList테스트 {
+    public static void main(String[] args){
+        IntArrayList ints = new IntArrayList();
+
+        ints.add(1);
+        ints.add(2);
+        ints.add(3);
+        ints.addAll(new int[]{4, 5, 6});
+        ints.add(0, 0);
+
+        System.out.println(ints);
+        System.out.println(ints.get(3));
+        System.out.println(ints.indexOf(5));
+        System.out.println(ints.removeAt(0));
+        System.out.println(ints.removeValue(6));
+        System.out.println(Arrays.toString(ints.toIntArray()));
+
+        LongArrayList longs = new LongArrayList();
+        longs.addAll(new long[]{1L << 40, 2L << 40});
+        System.out.println(longs);
+
+        DoubleArrayList doubles = new DoubleArrayList();
+        doubles.addAll(new double[]{0.5, Double.NaN, -0.0});
+        System.out.println(doubles.indexOf(Double.NaN));
+        System.out.println(doubles.indexOf(0.0));
+        System.out.println(doubles);
+    }
+}
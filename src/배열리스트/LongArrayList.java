@@ -0,0 +1,279 @@
+package 배열리스트;
+
+import java.util.Arrays;
+
+
+/**
+ * long 원시 타입 전용 배열리스트
+ * {@code ArrayList<Long>}는 모든 값을 Long으로 박싱해서 Object[]에 담기 때문에
+ * 원소마다 객체 헤더와 참조가 추가로 들고, get을 할 때마다 포인터를 한 번 더 따라가야 한다.
+ * 이 클래스는 같은 증가 정책({@link ArrayList#newCapacity})을 쓰면서 long[]에 값을 그대로 담는다.
+ * 박싱을 피하는 것이 목적이므로 {@code List<Long>}는 구현하지 않는다.
+ */
+public class LongArrayList implements Cloneable {
+
+    // 기본 배열리스트 크기
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // 빈 배열의 경우 인스턴스를 공유하기 위한 배열 인스턴스
+    private static final long[] EMPTY_ARRAY = {};
+
+    // 요소를 담을 배열
+    long[] array;
+
+    // 배열을 크기를 추적하는 크기
+    private int size;
+
+    public LongArrayList(int capacity){
+        if (capacity < 0)
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + capacity);
+        this.array = (capacity == 0) ? EMPTY_ARRAY : new long[capacity];
+    }
+
+    public LongArrayList(){
+        this.array = EMPTY_ARRAY;
+    }
+
+    /**
+     * 크기를 어레이의 크기에 맞추는 메소드
+     */
+    public void trimToSize(){
+        final long[] a = array;
+        if (size < a.length){
+            array = (size == 0) ? EMPTY_ARRAY : Arrays.copyOf(a, size);
+        }
+    }
+
+    // 어레이의 크기를 키우는 메소드
+    private long[] growUp(int minCapacity){
+        int oldCapacity = array.length;
+        if(oldCapacity > 0){
+            return array = Arrays.copyOf(array, ArrayList.newCapacity(oldCapacity, minCapacity));
+        }else{
+            return array = new long[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    // 어레이의 크기를 1만 키우기 위한 다형성 메소드
+    private long[] growUp(){
+        return growUp(this.size+1);
+    }
+
+    // 추가 위치를 검사함. 끝(size)에 추가하는 것은 허용함
+    private void checkIndexRange(int index){
+        if(size < index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                );
+    }
+
+    // 조회, 수정, 삭제할 위치를 검사함
+    private void checkElementIndex(int index){
+        if(size <= index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                );
+    }
+
+    public boolean add(long element) {
+        final int s;
+        long[] a = array;
+        if ((s = size) == a.length)
+            a = growUp();
+        a[s] = element;
+        size = s + 1;
+        return true;
+    }
+
+    public void add(int index, long element) {
+        checkIndexRange(index);
+        final int s;
+        // 배열이 풀이라면 사이즈 키우기
+        if ((s = size) == array.length)
+            array = growUp();
+        // 배열을 한 칸 뒤로 민다.
+        System.arraycopy(array, index, array, index+1, s-index);
+        array[index] = element;
+        size++;
+    }
+
+    /**
+     * 배열의 모든 값을 한 번의 용량 확인과 복사로 끝에 추가한다.
+     * @param values 추가할 값들
+     * @return 값이 하나라도 추가되었으면 {@code true}
+     */
+    public boolean addAll(long[] values) {
+        return addAll(values, 0, values.length);
+    }
+
+    /**
+     * 배열의 [from, to) 범위의 값을 끝에 추가한다.
+     * @param values 추가할 값들
+     * @param from 복사를 시작할 위치
+     * @param to 복사를 끝낼 위치(포함하지 않음)
+     * @return 값이 하나라도 추가되었으면 {@code true}
+     */
+    public boolean addAll(long[] values, int from, int to) {
+        final int addSize;
+        if ((addSize = to - from) == 0)
+            return false;
+        if (from < 0 || to > values.length || addSize < 0)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Length: " + values.length + ", From: " + from + ", To: " + to
+                );
+        // 기존 배열의 사이즈를 키움
+        final int s;
+        if (array.length - (s = size) < addSize)
+            array = growUp(s + addSize);
+        System.arraycopy(values, from, array, s, addSize);
+        size = s + addSize;
+        return true;
+    }
+
+    public boolean addAll(LongArrayList other) {
+        return addAll(other.array, 0, other.size);
+    }
+
+    public boolean addAll(int index, long[] values) {
+        checkIndexRange(index);
+        final int addSize;
+        if ((addSize = values.length) == 0)
+            return false;
+        // 기존 배열의 사이즈를 키움
+        final int s;
+        if (array.length - (s = size) < addSize)
+            array = growUp(s + addSize);
+
+        // 밀어야하는 인덱스만큼 밀어냄
+        int moveNum = s - index;
+        if (moveNum > 0)
+            System.arraycopy(array, index, array, index+addSize, moveNum);
+        System.arraycopy(values, 0, array, index, addSize);
+        size = s + addSize;
+        return true;
+    }
+
+    // 원시 타입이라 참조를 끊을 필요가 없으므로 크기만 0으로 돌림
+    public void clear() {
+        size = 0;
+    }
+
+    // 범위를 탐색해서 주어진 값과 같은 인덱스를 반환
+    int indexOfRange(long o, int start, int end) {
+        long[] a = array;
+        for (int i = start; i < end; i++) {
+            if (a[i] == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 범위를 탐색해서 주어진 값과 같은 인덱스를 반환
+    int lastIndexOfRange(long o, int start, int end) {
+        long[] a = array;
+        for (int i = end - 1; i >= start; i--) {
+            if (a[i] == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 값의 인덱스를 앞에서부터 탐색해서 반환
+    public int indexOf(long o){
+        return indexOfRange(o, 0, size);
+    }
+
+    // 값의 인덱스를 뒤에서부터 탐색해서 반환
+    public int lastIndexOf(long o) {
+        return lastIndexOfRange(o, 0, size);
+    }
+
+    // 해당 값을 포함하고 있는지 체크
+    public boolean contains(long o) {
+        return indexOf(o) >= 0;
+    }
+
+    // 인덱스의 값을 변경
+    public long set(int index, long element) {
+        checkElementIndex(index);
+        long oldValue = array[index];
+        array[index] = element;
+        return oldValue;
+    }
+
+    // 인덱스의 값을 반환
+    public long get(int index) {
+        checkElementIndex(index);
+        return array[index];
+    }
+
+    /**
+     * 특정 인덱스의 값을 삭제 후 반환
+     * {@code remove(int)}로 두면 값 삭제와 인덱스 삭제가 구분되지 않으므로 이름을 달리함
+     */
+    public long removeAt(int index) {
+        checkElementIndex(index);
+        final long[] a = array;
+        long oldValue = a[index];
+        final int newSize;
+        if ((newSize = size - 1) > index)
+            System.arraycopy(a, index + 1, a, index, newSize - index);
+        size = newSize;
+        return oldValue;
+    }
+
+    // 처음 조회되는 특정 값 삭제
+    public boolean removeValue(long o) {
+        int i = indexOf(o);
+        if (i < 0)
+            return false;
+        removeAt(i);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 내부 배열을 크기만큼 복사해서 반환함
+     * @return 리스트의 값이 담긴 새 long 배열
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    // 배열리스트 복사
+    @Override
+    public LongArrayList clone() {
+        try {
+            LongArrayList v = (LongArrayList) super.clone();
+            v.array = Arrays.copyOf(array, size);
+            return v;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    // ToString() 오버라이드
+    @Override
+    public String toString() {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0;; i++) {
+            sb.append(array[i]);
+            if (i == size - 1)
+                return sb.append(']').toString();
+            sb.append(',').append(' ');
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package 배열리스트;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+
+/**
+ * 원소를 메모리 맵 파일에 저장하는 배열리스트
+ * 프로세스가 시작할 때마다 큰 리스트를 원본 데이터에서 다시 만드는 대신,
+ * 고정 크기 레코드({@link RecordCodec})를 파일에 그대로 두고 다시 열어서 쓴다.
+ *
+ * 파일의 맨 앞에는 헤더가 있고 그 뒤에 레코드가 이어진다.
+ * <pre>
+ * 0  : int  매직 넘버, 파일을 만든 기계의 바이트 순서로 기록
+ * 4  : int  레코드 크기(width)
+ * 8  : int  청크 하나의 레코드 수의 로그값(chunkShift)
+ * 16 : long 원소의 개수(size)
+ * </pre>
+ * 헤더와 레코드는 모두 기계의 바이트 순서(native order)로 읽고 쓴다. 바이트 순서가 다른 기계에서 만든 파일은
+ * 매직 넘버가 뒤집혀 읽히므로, 잘못된 값을 읽는 대신 열 때 {@link IOException}을 던진다.
+ *
+ * 크기는 구조가 바뀔 때마다 헤더에 기록되므로, 다시 열 때는 헤더만 읽으면 되어 O(1)이다.
+ * 레코드 영역은 청크 단위로 필요할 때 매핑되고, 페이지는 실제로 접근할 때 운영체제가 읽어들인다.
+ *
+ * 용량이 모자라면 {@link ArrayList#newCapacity}로 새 용량을 정하고 청크 크기에 맞춰 올린 뒤 파일을 늘린다.
+ * 기존 레코드는 파일 안에 그대로 있으므로 복사는 일어나지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class MappedArrayList<E> extends AbstractList<E> implements RandomAccess, AutoCloseable {
+
+    private static final int MAGIC = 0x4D41524C;
+
+    // 헤더의 필드 위치
+    private static final int WIDTH_OFFSET = 4;
+    private static final int CHUNK_SHIFT_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+
+    // 헤더가 차지하는 바이트 수
+    private static final int HEADER_BYTES = 64;
+
+    // 청크 하나에 담을 기본 레코드 수 (2^20)
+    private static final int DEFAULT_CHUNK_SHIFT = 20;
+
+    // 청크 하나의 최대 바이트 수
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    // 레코드 크기와 청크의 로그값이 허용 범위 안인지 확인함
+    private static boolean validChunk(int width, int chunkShift) {
+        return chunkShift >= 0 && chunkShift <= 30 && ((long) width << chunkShift) <= MAX_CHUNK_BYTES;
+    }
+
+    private final RecordCodec<E> codec;
+    private final int width;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private final FileChannel channel;
+
+    // 헤더 영역을 매핑한 버퍼
+    private final MappedByteBuffer header;
+
+    // 청크를 매핑한 버퍼들, 아직 접근하지 않은 청크는 null
+    private MappedByteBuffer[] chunks;
+
+    // 파일에 확보된 청크 수
+    private int chunkCount;
+
+    private int size;
+
+    private boolean closed;
+
+    private MappedArrayList(RecordCodec<E> codec, FileChannel channel, MappedByteBuffer header,
+                            int chunkShift, int chunkCount, int size) {
+        this.codec = codec;
+        this.width = codec.width();
+        this.channel = channel;
+        this.header = header;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunkCount = chunkCount;
+        this.chunks = new MappedByteBuffer[chunkCount];
+        this.size = size;
+    }
+
+    public static <E> MappedArrayList<E> open(Path path, RecordCodec<E> codec) throws IOException {
+        return open(path, codec, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * 파일을 열어 리스트를 만든다. 파일이 비어있으면 새 헤더를 쓰고,
+     * 이미 헤더가 있으면 저장된 크기와 청크 설정을 그대로 사용한다.
+     *
+     * @param path 레코드를 저장할 파일
+     * @param codec 원소를 바이트로 바꿀 코덱
+     * @param chunkShift 새 파일일 때 청크 하나에 담을 레코드 수의 로그값, 기존 파일이면 헤더의 값을 따름
+     * @return 파일에 연결된 리스트
+     * @throws IOException 파일을 열거나 매핑하지 못한 경우, 헤더가 올바르지 않은 경우
+     */
+    public static <E> MappedArrayList<E> open(Path path, RecordCodec<E> codec, int chunkShift)
+            throws IOException {
+        Objects.requireNonNull(codec);
+        final int width = codec.width();
+        if (width <= 0)
+            throw new IllegalArgumentException("레코드 크기는 0보다 커야 합니다: " + width);
+
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long length = channel.size();
+            // 헤더보다 짧은 파일은 리스트 파일일 수 없으므로, 매핑해서 늘리기 전에 거부함
+            if (length != 0 && length < HEADER_BYTES)
+                throw new IOException("MappedArrayList 파일이 아닙니다: " + path);
+            if (length == 0 && !validChunk(width, chunkShift))
+                throw new IllegalArgumentException(
+                    "청크 크기가 허용 범위 밖입니다. Width: " + width + ", ChunkShift: " + chunkShift
+                    );
+            // 빈 파일이면 헤더 크기만큼 늘어나고, 기존 파일은 길이가 바뀌지 않음
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.nativeOrder());
+
+            if (length == 0) {
+                header.putInt(0, MAGIC);
+                header.putInt(WIDTH_OFFSET, width);
+                header.putInt(CHUNK_SHIFT_OFFSET, chunkShift);
+                header.putLong(SIZE_OFFSET, 0);
+                return new MappedArrayList<>(codec, channel, header, chunkShift, 0, 0);
+            }
+
+            final int magic = header.getInt(0);
+            if (magic == Integer.reverseBytes(MAGIC))
+                throw new IOException(
+                    "바이트 순서가 다른 기계에서 만든 파일입니다. Native: " + ByteOrder.nativeOrder() + ", Path: " + path
+                    );
+            if (magic != MAGIC)
+                throw new IOException("MappedArrayList 파일이 아닙니다: " + path);
+            if (header.getInt(WIDTH_OFFSET) != width)
+                throw new IOException(
+                    "레코드 크기가 다릅니다. File: " + header.getInt(WIDTH_OFFSET) + ", Codec: " + width
+                    );
+            final int storedShift = header.getInt(CHUNK_SHIFT_OFFSET);
+            if (!validChunk(width, storedShift))
+                throw new IOException(
+                    "헤더의 청크 크기가 허용 범위 밖입니다. Width: " + width + ", ChunkShift: " + storedShift
+                    );
+            final long storedSize = header.getLong(SIZE_OFFSET);
+            final long storedChunks = (length - HEADER_BYTES) / ((long) width << storedShift);
+            if (storedChunks > Integer.MAX_VALUE)
+                throw new IOException("청크 수가 너무 많습니다: " + storedChunks);
+            final int chunkCount = (int) storedChunks;
+            if (storedSize < 0 || storedSize > Integer.MAX_VALUE || storedSize > ((long) chunkCount << storedShift))
+                throw new IOException("헤더의 크기가 파일 길이와 맞지 않습니다: " + storedSize);
+            return new MappedArrayList<>(codec, channel, header, storedShift, chunkCount, (int) storedSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("이미 닫힌 리스트입니다.");
+    }
+
+    // 할당된 청크로 담을 수 있는 레코드 수
+    private long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    // 청크를 처음 접근할 때 매핑함
+    private MappedByteBuffer chunk(int chunkIndex) {
+        MappedByteBuffer c = chunks[chunkIndex];
+        if (c == null) {
+            final long chunkBytes = (long) width << chunkShift;
+            try {
+                c = channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_BYTES + chunkIndex * chunkBytes, chunkBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            c.order(ByteOrder.nativeOrder());
+            chunks[chunkIndex] = c;
+        }
+        return c;
+    }
+
+    /**
+     * 최소한 minCapacity개의 레코드를 담을 수 있도록 파일을 늘림
+     * 새 용량은 {@link ArrayList#newCapacity}로 정한 뒤 청크 단위로 올림
+     *
+     * @param minCapacity 필요한 최소 레코드 수
+     */
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        final long oldCapacity = capacity();
+        if (minCapacity <= oldCapacity)
+            return;
+        long newCapacity = (oldCapacity == 0)
+            ? minCapacity
+            : ArrayList.newCapacity((int) Math.min(oldCapacity, Integer.MAX_VALUE), minCapacity);
+        int newChunks = (int) ((newCapacity + chunkMask) >>> chunkShift);
+        try {
+            final long newLength = HEADER_BYTES + ((long) newChunks * width << chunkShift);
+            // 마지막 바이트를 써서 파일을 늘림, 중간은 희소 파일로 남음
+            channel.write(ByteBuffer.wrap(new byte[1]), newLength - 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (newChunks > chunks.length)
+            chunks = Arrays.copyOf(chunks, newChunks);
+        chunkCount = newChunks;
+    }
+
+    // 조회, 수정, 삭제할 위치를 검사함
+    private void checkElementIndex(int index){
+        if(size <= index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                );
+    }
+
+    // 추가 위치를 검사함. 끝(size)에 추가하는 것은 허용함
+    private void checkIndexRange(int index){
+        if(size < index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                );
+    }
+
+    private E read(int index) {
+        return codec.read(chunk(index >>> chunkShift), (index & chunkMask) * width);
+    }
+
+    private void write(int index, E element) {
+        codec.write(chunk(index >>> chunkShift), (index & chunkMask) * width, element);
+    }
+
+    // from 위치의 레코드를 to 위치로 바이트 그대로 옮김
+    private void copyRecord(int from, int to) {
+        chunk(to >>> chunkShift).put((to & chunkMask) * width,
+            chunk(from >>> chunkShift), (from & chunkMask) * width, width);
+    }
+
+    // 구조가 바뀌면 헤더의 크기를 갱신함
+    private void setSize(int newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    @Override
+    public E get(int index) {
+        checkOpen();
+        checkElementIndex(index);
+        return read(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkOpen();
+        checkElementIndex(index);
+        E oldValue = read(index);
+        write(index, element);
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(E element) {
+        checkOpen();
+        final int s = size;
+        if (s == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("더 이상 레코드를 추가할 수 없습니다. Size: " + s);
+        if (s == capacity())
+            ensureCapacity(s + 1);
+        write(s, element);
+        setSize(s + 1);
+        return true;
+    }
+
+    /**
+     * 특정 위치에 레코드를 추가한다.
+     * 뒤쪽 레코드를 한 칸씩 바이트 단위로 옮기므로 O(n)이다.
+     */
+    @Override
+    public void add(int index, E element) {
+        checkOpen();
+        checkIndexRange(index);
+        final int s = size;
+        if (s == capacity())
+            ensureCapacity(s + 1);
+        for (int i = s; i > index; i--)
+            copyRecord(i - 1, i);
+        write(index, element);
+        setSize(s + 1);
+    }
+
+    /**
+     * 특정 위치의 레코드를 삭제하고 반환한다.
+     * 뒤쪽 레코드를 한 칸씩 바이트 단위로 당기므로 O(n)이다.
+     */
+    @Override
+    public E remove(int index) {
+        checkOpen();
+        checkElementIndex(index);
+        E oldValue = read(index);
+        final int newSize = size - 1;
+        for (int i = index; i < newSize; i++)
+            copyRecord(i + 1, i);
+        setSize(newSize);
+        return oldValue;
+    }
+
+    // 파일의 용량은 그대로 두고 크기만 0으로 돌림
+    @Override
+    public void clear() {
+        checkOpen();
+        setSize(0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 매핑된 헤더와 청크의 변경 내용을 디스크에 기록한다.
+     */
+    public void force() {
+        checkOpen();
+        for (int i = 0; i < chunkCount; i++)
+            if (chunks[i] != null)
+                chunks[i].force();
+        header.force();
+    }
+
+    /**
+     * 변경 내용을 디스크에 기록하고 파일을 닫는다.
+     * 닫힌 뒤에 원소에 접근하면 {@link IllegalStateException}이 발생한다. 여러 번 호출해도 된다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        force();
+        closed = true;
+        chunks = null;
+        size = 0;
+        channel.close();
+    }
+}
@@ -0,0 +1,55 @@
+package 배열리스트;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MappedArrayList테스트 {
+    public static void main(String[] args) throws Exception {
+        Path file = Files.createTempFile("mapped", ".list");
+        Files.delete(file);
+
+        try (MappedArrayList<Long> list = MappedArrayList.open(file, RecordCodec.LONG, 10)) {
+            for (long i = 0; i < 5000; i++)
+                list.add(i * i);
+            list.remove(0);
+            list.add(0, -1L);
+            System.out.println(list.size());
+        }
+        System.out.println(Files.size(file));
+
+        // 다시 열면 헤더의 크기와 파일의 레코드를 그대로 사용함
+        try (MappedArrayList<Long> list = MappedArrayList.open(file, RecordCodec.LONG)) {
+            System.out.println(list.size());
+            System.out.println(list.subList(0, 4));
+            System.out.println(list.get(4999));
+            list.add(42L);
+            System.out.println(list.size());
+        }
+
+        // 헤더가 잘못된 파일은 바꾸지 않고 IOException을 던짐
+        ByteBuffer header = ByteBuffer.allocate(64).order(ByteOrder.nativeOrder());
+        header.putInt(0, 0x4D41524C).putInt(4, 8).putInt(8, 40);
+        Files.write(file, header.array());
+        tryOpen(file);
+        header.order(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        header.putInt(0, 0x4D41524C).putInt(8, 10);
+        Files.write(file, header.array());
+        tryOpen(file);
+        Files.write(file, "hello".getBytes());
+        tryOpen(file);
+        System.out.println(Files.size(file));
+
+        Files.delete(file);
+    }
+
+    private static void tryOpen(Path file) {
+        try (MappedArrayList<Long> list = MappedArrayList.open(file, RecordCodec.LONG)) {
+            System.out.println(list.size());
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+}
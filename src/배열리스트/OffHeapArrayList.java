@@ -0,0 +1,287 @@
+package 배열리스트;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+
+/**
+ * 힙 밖(off-heap) 메모리에 고정 크기 레코드를 담는 배열리스트
+ * {@link ArrayList}는 원소를 힙 객체로 들고 있기 때문에 원소가 수억 개가 되면
+ * GC가 매번 그 객체들을 모두 따라가야 해서 정지 시간이 길어진다.
+ * 이 리스트는 원소를 {@link RecordCodec}으로 바이트로 바꿔 다이렉트 버퍼에 저장하므로
+ * GC가 보는 것은 청크 버퍼 몇 개뿐이다. 대신 get을 할 때마다 코덱이 원소를 새로 만들어 반환한다.
+ *
+ * 다이렉트 버퍼 하나는 2GB(int 범위)를 넘을 수 없어서 고정 개수의 레코드를 담는 청크로 나눠 저장한다.
+ * 용량이 모자라면 청크를 새로 할당할 뿐 기존 레코드를 복사하지 않고,
+ * 청크 목록 배열은 {@link ArrayList#newCapacity}와 같은 정책으로 늘린다.
+ *
+ * JDK 17에는 {@code java.lang.foreign.MemorySegment}가 정식 API로 없어서 다이렉트 {@link ByteBuffer}를 사용한다.
+ * {@link #close()}와 {@link #trimToSize()}는 놓아주는 청크의 네이티브 메모리를 그 자리에서 운영체제에 돌려준다.
+ * (JDK의 {@code sun.misc.Unsafe.invokeCleaner}로 버퍼의 Cleaner를 바로 실행함)
+ * 그 API를 쓸 수 없는 런타임에서는 참조만 끊고, 메모리는 버퍼 객체가 수거될 때 Cleaner가 돌려준다.
+ * 청크 버퍼는 밖으로 내보내지 않으므로 해제된 메모리에 접근할 길은 없고, 닫힌 리스트는 모든 접근에서 예외를 던진다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class OffHeapArrayList<E> extends AbstractList<E> implements RandomAccess, AutoCloseable {
+
+    // 청크 하나에 담을 기본 레코드 수 (2^16)
+    private static final int DEFAULT_CHUNK_SHIFT = 16;
+
+    // 청크 하나의 최대 바이트 수
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    // 빈 청크 목록을 공유하기 위한 배열 인스턴스
+    private static final ByteBuffer[] EMPTY_CHUNKS = {};
+
+    // 다이렉트 버퍼의 네이티브 메모리를 바로 해제하는 함수 (Unsafe.invokeCleaner), 쓸 수 없으면 null
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 청크의 네이티브 메모리를 바로 돌려줌, 이후 이 버퍼에 접근하면 안 됨
+    private static void free(ByteBuffer chunk) {
+        if (INVOKE_CLEANER == null)
+            return;
+        try {
+            INVOKE_CLEANER.invokeExact(chunk);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final RecordCodec<E> codec;
+
+    // 레코드 하나의 바이트 수
+    private final int width;
+
+    // 청크 하나에 담기는 레코드 수는 1 << chunkShift
+    private final int chunkShift;
+    private final int chunkMask;
+
+    // 레코드를 담는 다이렉트 버퍼들, 닫히면 null
+    private ByteBuffer[] chunks;
+
+    // 할당된 청크 수
+    private int chunkCount;
+
+    private int size;
+
+    public OffHeapArrayList(RecordCodec<E> codec){
+        this(codec, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * @param codec 원소를 바이트로 바꿀 코덱
+     * @param chunkShift 청크 하나에 담을 레코드 수의 로그값, 청크는 {@code 1 << chunkShift}개의 레코드를 담음
+     * @throws IllegalArgumentException 청크 하나가 1GB를 넘는 경우
+     */
+    public OffHeapArrayList(RecordCodec<E> codec, int chunkShift){
+        this.codec = Objects.requireNonNull(codec);
+        this.width = codec.width();
+        if (width <= 0)
+            throw new IllegalArgumentException("레코드 크기는 0보다 커야 합니다: " + width);
+        if (chunkShift < 0 || chunkShift > 30 || ((long) width << chunkShift) > MAX_CHUNK_BYTES)
+            throw new IllegalArgumentException(
+                "청크 크기가 허용 범위 밖입니다. Width: " + width + ", ChunkShift: " + chunkShift
+                );
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = EMPTY_CHUNKS;
+    }
+
+    private ByteBuffer[] chunks() {
+        final ByteBuffer[] c = chunks;
+        if (c == null)
+            throw new IllegalStateException("이미 닫힌 리스트입니다.");
+        return c;
+    }
+
+    // 할당된 청크로 담을 수 있는 레코드 수
+    private long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * 최소한 minCapacity개의 레코드를 담을 수 있도록 청크를 할당함
+     * 기존 청크는 그대로 두므로 레코드 복사는 일어나지 않음
+     *
+     * @param minCapacity 필요한 최소 레코드 수
+     */
+    public void ensureCapacity(int minCapacity) {
+        ByteBuffer[] c = chunks();
+        if (minCapacity <= capacity())
+            return;
+        int needChunks = (int) (((long) minCapacity + chunkMask) >>> chunkShift);
+        if (needChunks > c.length)
+            c = chunks = Arrays.copyOf(c,
+                (c.length == 0) ? needChunks : ArrayList.newCapacity(c.length, needChunks));
+        final int chunkBytes = width << chunkShift;
+        while (chunkCount < needChunks)
+            c[chunkCount++] = ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * 크기를 넘어서는 뒤쪽의 빈 청크를 해제함
+     */
+    public void trimToSize() {
+        final ByteBuffer[] c = chunks();
+        int usedChunks = (int) (((long) size + chunkMask) >>> chunkShift);
+        for (int i = usedChunks; i < chunkCount; i++) {
+            free(c[i]);
+            c[i] = null;
+        }
+        chunkCount = usedChunks;
+        chunks = (usedChunks == 0) ? EMPTY_CHUNKS : Arrays.copyOf(c, usedChunks);
+    }
+
+    // 조회, 수정, 삭제할 위치를 검사함
+    private void checkElementIndex(int index){
+        if(size <= index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                );
+    }
+
+    // 추가 위치를 검사함. 끝(size)에 추가하는 것은 허용함
+    private void checkIndexRange(int index){
+        if(size < index || index < 0)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Size: " + size + ", Index: " + index
+                );
+    }
+
+    private E read(ByteBuffer[] c, int index) {
+        return codec.read(c[index >>> chunkShift], (index & chunkMask) * width);
+    }
+
+    private void write(ByteBuffer[] c, int index, E element) {
+        codec.write(c[index >>> chunkShift], (index & chunkMask) * width, element);
+    }
+
+    // from 위치의 레코드를 to 위치로 바이트 그대로 옮김
+    private void copyRecord(ByteBuffer[] c, int from, int to) {
+        c[to >>> chunkShift].put((to & chunkMask) * width,
+            c[from >>> chunkShift], (from & chunkMask) * width, width);
+    }
+
+    @Override
+    public E get(int index) {
+        final ByteBuffer[] c = chunks();
+        checkElementIndex(index);
+        return read(c, index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        final ByteBuffer[] c = chunks();
+        checkElementIndex(index);
+        E oldValue = read(c, index);
+        write(c, index, element);
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(E element) {
+        chunks();
+        final int s = size;
+        if (s == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("더 이상 레코드를 추가할 수 없습니다. Size: " + s);
+        if (s == capacity())
+            ensureCapacity(s + 1);
+        write(chunks, s, element);
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * 특정 위치에 레코드를 추가한다.
+     * 뒤쪽 레코드를 한 칸씩 바이트 단위로 옮기므로 O(n)이다.
+     */
+    @Override
+    public void add(int index, E element) {
+        chunks();
+        checkIndexRange(index);
+        final int s = size;
+        if (s == capacity())
+            ensureCapacity(s + 1);
+        final ByteBuffer[] c = chunks;
+        for (int i = s; i > index; i--)
+            copyRecord(c, i - 1, i);
+        write(c, index, element);
+        size = s + 1;
+    }
+
+    /**
+     * 특정 위치의 레코드를 삭제하고 반환한다.
+     * 뒤쪽 레코드를 한 칸씩 바이트 단위로 당기므로 O(n)이다.
+     */
+    @Override
+    public E remove(int index) {
+        final ByteBuffer[] c = chunks();
+        checkElementIndex(index);
+        E oldValue = read(c, index);
+        final int newSize = size - 1;
+        for (int i = index; i < newSize; i++)
+            copyRecord(c, i + 1, i);
+        size = newSize;
+        return oldValue;
+    }
+
+    // 레코드는 값이라서 지울 필요 없이 크기만 0으로 돌림, 청크는 trimToSize나 close로 놓아줌
+    @Override
+    public void clear() {
+        chunks();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 할당된 청크들이 차지하는 네이티브 메모리의 바이트 수
+     * @return 바이트 수
+     */
+    public long allocatedBytes() {
+        return capacity() * width;
+    }
+
+    /**
+     * 모든 청크의 네이티브 메모리를 해제하고 리스트를 닫는다.
+     * 닫힌 뒤에 원소에 접근하면 {@link IllegalStateException}이 발생한다. 여러 번 호출해도 된다.
+     */
+    @Override
+    public void close() {
+        final ByteBuffer[] c = chunks;
+        if (c == null)
+            return;
+        chunks = null;
+        for (int i = 0; i < chunkCount; i++)
+            free(c[i]);
+        chunkCount = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,61 @@
+package 배열리스트;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+public class OffHeapArrayList테스트 {
+
+    // 16바이트 고정 크기 레코드
+    record Point(long x, long y) {}
+
+    static final RecordCodec<Point> POINT = new RecordCodec<>() {
+        public int width() { return 16; }
+        public void write(ByteBuffer buffer, int offset, Point p) {
+            buffer.putLong(offset, p.x());
+            buffer.putLong(offset + 8, p.y());
+        }
+        public Point read(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getLong(offset), buffer.getLong(offset + 8));
+        }
+    };
+
+    public static void main(String[] args){
+        try (OffHeapArrayList<Point> points = new OffHeapArrayList<>(POINT, 4)) {
+            for (int i = 0; i < 40; i++)
+                points.add(new Point(i, -i));
+
+            points.add(0, new Point(100, 100));
+            points.remove(20);
+            points.set(1, new Point(7, 7));
+
+            System.out.println(points.size());
+            System.out.println(points.subList(0, 4));
+            System.out.println(points.get(points.size() - 1));
+            System.out.println(points.allocatedBytes());
+
+            points.clear();
+            points.trimToSize();
+            System.out.println(points.allocatedBytes());
+        }
+
+        OffHeapArrayList<Long> longs = new OffHeapArrayList<>(RecordCodec.LONG);
+        for (long i = 0; i < 1_000_000; i++)
+            longs.add(i);
+        System.out.println(longs.stream().mapToLong(Long::longValue).sum());
+        // close는 GC를 기다리지 않고 네이티브 메모리를 바로 돌려줌
+        long before = directMemoryUsed();
+        long allocated = longs.allocatedBytes();
+        longs.close();
+        System.out.println((before - directMemoryUsed()) == allocated);
+        System.out.println(longs);
+    }
+
+    // 다이렉트 버퍼가 차지하는 네이티브 메모리의 바이트 수
+    static long directMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class))
+            if (pool.getName().equals("direct"))
+                return pool.getMemoryUsed();
+        return -1;
+    }
+}
@@ -0,0 +1,513 @@
+package 배열리스트;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+
+/**
+ * 구조를 공유하는 불변(persistent) 벡터
+ * 되돌리기 기록이나 MVCC처럼 리스트의 여러 버전을 들고 있어야 할 때
+ * 버전마다 {@link ArrayList}를 통째로 복사하는 대신, 바뀐 경로의 노드만 새로 만들고 나머지는 이전 버전과 공유한다.
+ *
+ * 32갈래 트리(RRB-tree, Relaxed Radix Balanced tree)로 구현한다.
+ * 리프는 원소를 최대 32개, 내부 노드는 자식을 최대 32개 담는다.
+ * 원소가 꽉 찬 트리에서는 인덱스의 5비트씩을 잘라 자식을 바로 고를 수 있고(radix),
+ * 이어붙이기나 자르기로 덜 찬 노드가 생기면 노드마다 둔 누적 크기 표로 위치를 보정한다(relaxed).
+ * 자식 하나는 항상 {@code 32^높이}개 이하의 원소를 담으므로 radix로 고른 위치는 실제 위치의 하한이 되고,
+ * 크기 표를 따라 몇 칸만 앞으로 가면 된다.
+ *
+ * <ul>
+ * <li>get, update, append: O(log32 n)</li>
+ * <li>concat: 두 트리의 맞닿은 경로만 다시 균형을 맞추므로 O(log32 n)</li>
+ * <li>slice: 양 끝 경로만 잘라내므로 O(log32 n)</li>
+ * </ul>
+ * 많은 원소를 한 번에 만들 때는 {@link Builder}로 리프를 채운 뒤 한 번에 트리를 세운다.
+ * {@link java.util.List}의 읽기 메소드를 구현하므로 {@code ArrayList.addAll(vector)}나 {@link #toArray()}로 주고받을 수 있다.
+ * 수정 메소드(add, set 등)는 {@link UnsupportedOperationException}을 던진다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    // 한 노드의 자식 수는 2^BITS
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+
+    // 이어붙일 때 최적 노드 수보다 이만큼 많아도 재분배하지 않음 (RRB 논문의 E_MAX)
+    private static final int EXTRA = 2;
+
+    /**
+     * 트리의 노드
+     * 리프는 array에 원소를 담고 sizes가 null이다.
+     * 내부 노드는 array에 자식 노드를 담고, sizes[i]는 0~i번째 자식까지의 누적 원소 수다.
+     */
+    private static final class Node {
+        final Object[] array;
+        final int[] sizes;
+
+        Node(Object[] array, int[] sizes) {
+            this.array = array;
+            this.sizes = sizes;
+        }
+
+        int length() {
+            return array.length;
+        }
+
+        // 이 노드가 담은 전체 원소 수
+        int size() {
+            return (sizes == null) ? array.length : sizes[sizes.length - 1];
+        }
+
+        Node child(int i) {
+            return (Node) array[i];
+        }
+    }
+
+    private static final Node EMPTY_LEAF = new Node(new Object[0], null);
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentVector EMPTY = new PersistentVector<>(EMPTY_LEAF, 0);
+
+    private final Node root;
+
+    // 루트의 높이, 리프가 0
+    private final int height;
+
+    private PersistentVector(Node root, int height) {
+        this.root = root;
+        this.height = height;
+    }
+
+    /**
+     * 빈 벡터를 반환한다.
+     * @return 원소가 없는 벡터
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * 컬렉션의 원소로 벡터를 만든다.
+     * @param c 원소를 가져올 컬렉션
+     * @return 컬렉션의 순서대로 원소를 담은 벡터
+     */
+    public static <E> PersistentVector<E> of(Collection<? extends E> c) {
+        Builder<E> builder = new Builder<>();
+        builder.addAll(c);
+        return builder.build();
+    }
+
+    // 자식 노드들로 내부 노드를 만들고 누적 크기 표를 채움
+    private static Node internal(Object[] children) {
+        final int[] sizes = new int[children.length];
+        int sum = 0;
+        for (int i = 0; i < children.length; i++) {
+            sum += ((Node) children[i]).size();
+            sizes[i] = sum;
+        }
+        return new Node(children, sizes);
+    }
+
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    // radix로 자식 위치를 짐작한 뒤 누적 크기 표를 보고 실제 위치까지 앞으로 감
+    private static int childIndex(Node node, int index, int level) {
+        int i = index >>> (BITS * level);
+        final int[] sizes = node.sizes;
+        while (sizes[i] <= index)
+            i++;
+        return i;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node node = root;
+        for (int level = height; level > 0; level--) {
+            int i = childIndex(node, index, level);
+            if (i > 0)
+                index -= node.sizes[i - 1];
+            node = node.child(i);
+        }
+        return (E) node.array[index];
+    }
+
+    /**
+     * 특정 위치의 원소를 바꾼 새 벡터를 반환한다. 이 벡터는 바뀌지 않는다.
+     *
+     * @param index 바꿀 위치
+     * @param element 새 원소
+     * @return 바뀐 경로만 새로 만든 벡터
+     */
+    public PersistentVector<E> update(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(update(root, height, index, element), height);
+    }
+
+    private static Node update(Node node, int level, int index, Object element) {
+        final Object[] array = node.array.clone();
+        if (level == 0) {
+            array[index] = element;
+            return new Node(array, null);
+        }
+        int i = childIndex(node, index, level);
+        int sub = (i > 0) ? index - node.sizes[i - 1] : index;
+        array[i] = update(node.child(i), level - 1, sub, element);
+        // 원소 수는 바뀌지 않으므로 크기 표를 그대로 공유함
+        return new Node(array, node.sizes);
+    }
+
+    /**
+     * 끝에 원소를 추가한 새 벡터를 반환한다. 이 벡터는 바뀌지 않는다.
+     *
+     * @param element 추가할 원소
+     * @return 오른쪽 끝 경로만 새로 만든 벡터
+     */
+    public PersistentVector<E> append(E element) {
+        Node pushed = pushLast(root, height, element);
+        if (pushed != null)
+            return new PersistentVector<>(pushed, height);
+        // 루트가 꽉 찼으면 새 루트를 만들고 오른쪽에 새 경로를 붙임
+        Node newRoot = internal(new Object[] { root, newPath(height, element) });
+        return new PersistentVector<>(newRoot, height + 1);
+    }
+
+    // 오른쪽 끝 경로에 원소를 추가함, 자리가 없으면 null
+    private static Node pushLast(Node node, int level, Object element) {
+        final int len = node.length();
+        if (level == 0) {
+            if (len == WIDTH)
+                return null;
+            Object[] array = Arrays.copyOf(node.array, len + 1);
+            array[len] = element;
+            return new Node(array, null);
+        }
+        Node last = pushLast(node.child(len - 1), level - 1, element);
+        Object[] array;
+        if (last != null) {
+            array = node.array.clone();
+            array[len - 1] = last;
+        } else if (len < WIDTH) {
+            array = Arrays.copyOf(node.array, len + 1);
+            array[len] = newPath(level - 1, element);
+        } else {
+            return null;
+        }
+        return internal(array);
+    }
+
+    // 원소 하나만 담은 높이 level의 경로를 만듦
+    private static Node newPath(int level, Object element) {
+        Node node = new Node(new Object[] { element }, null);
+        for (int l = 0; l < level; l++)
+            node = new Node(new Object[] { node }, new int[] { 1 });
+        return node;
+    }
+
+    /**
+     * 두 벡터를 이어붙인 새 벡터를 반환한다. 두 벡터는 바뀌지 않는다.
+     * 맞닿는 오른쪽/왼쪽 경로의 노드만 다시 나누고 나머지 부분 트리는 그대로 공유한다.
+     *
+     * @param other 뒤에 붙일 벡터
+     * @return 이어붙인 벡터
+     */
+    public PersistentVector<E> concat(PersistentVector<? extends E> other) {
+        if (other.isEmpty())
+            return this;
+        if (isEmpty()) {
+            @SuppressWarnings("unchecked")
+            PersistentVector<E> result = (PersistentVector<E>) other;
+            return result;
+        }
+        Node merged = concat(root, height, other.root, other.height);
+        int newHeight = Math.max(height, other.height) + 1;
+        // 자식이 하나뿐인 루트는 걷어냄
+        while (newHeight > 0 && merged.length() == 1) {
+            merged = merged.child(0);
+            newHeight--;
+        }
+        return new PersistentVector<>(merged, newHeight);
+    }
+
+    /**
+     * 높이가 hl인 left와 hr인 right를 이어붙여 높이 max(hl, hr) + 1인 노드를 만든다.
+     * 더 높은 쪽의 맞닿은 자식으로 내려가 재귀적으로 합친 뒤, 그 결과(center)와 양쪽의 나머지 자식을 다시 나눈다.
+     */
+    private static Node concat(Node left, int hl, Node right, int hr) {
+        if (hl > hr) {
+            Node center = concat(left.child(left.length() - 1), hl - 1, right, hr);
+            return rebalance(left, center, null, hl);
+        }
+        if (hl < hr) {
+            Node center = concat(left, hl, right.child(0), hr - 1);
+            return rebalance(null, center, right, hr);
+        }
+        if (hl == 0) {
+            // 리프 둘을 합쳐서 한 리프에 들어가면 하나로 만듦
+            final int total = left.length() + right.length();
+            if (total <= WIDTH) {
+                Object[] array = Arrays.copyOf(left.array, total);
+                System.arraycopy(right.array, 0, array, left.length(), right.length());
+                return internal(new Object[] { new Node(array, null) });
+            }
+            return internal(new Object[] { left, right });
+        }
+        Node center = concat(left.child(left.length() - 1), hl - 1, right.child(0), hr - 1);
+        return rebalance(left, center, right, hl);
+    }
+
+    /**
+     * left의 마지막 자식을 뺀 자식들, center의 자식들, right의 첫 자식을 뺀 자식들을 모아서
+     * 높이 level인 노드 1~2개로 묶고, 이를 높이 level + 1인 노드로 감싸서 반환한다.
+     * 모은 자식의 수가 최적보다 EXTRA개 넘게 많으면 자식들의 내용을 앞에서부터 꽉 채워 다시 나눈다.
+     */
+    private static Node rebalance(Node left, Node center, Node right, int level) {
+        final int leftCount = (left == null) ? 0 : left.length() - 1;
+        final int rightCount = (right == null) ? 0 : right.length() - 1;
+        Object[] all = new Object[leftCount + center.length() + rightCount];
+        if (left != null)
+            System.arraycopy(left.array, 0, all, 0, leftCount);
+        System.arraycopy(center.array, 0, all, leftCount, center.length());
+        if (right != null)
+            System.arraycopy(right.array, 1, all, leftCount + center.length(), rightCount);
+
+        // all의 노드들은 높이 level - 1, 각 노드가 담은 칸(원소 또는 자식)의 수로 최적 노드 수를 구함
+        int slots = 0;
+        for (Object n : all)
+            slots += ((Node) n).length();
+        final int optimal = (slots + WIDTH - 1) / WIDTH;
+        if (all.length > optimal + EXTRA)
+            all = repack(all, slots, level - 1);
+
+        if (all.length <= WIDTH)
+            return internal(new Object[] { internal(all) });
+        Object[] first = Arrays.copyOf(all, WIDTH);
+        Object[] second = Arrays.copyOfRange(all, WIDTH, all.length);
+        return internal(new Object[] { internal(first), internal(second) });
+    }
+
+    // 같은 높이의 노드들이 담은 칸을 순서대로 꽉 채운 노드들로 다시 나눔
+    private static Object[] repack(Object[] nodes, int slots, int level) {
+        Object[] result = new Object[(slots + WIDTH - 1) / WIDTH];
+        Object[] buffer = new Object[Math.min(WIDTH, slots)];
+        int filled = 0, count = 0, remaining = slots;
+        for (Object o : nodes) {
+            Node n = (Node) o;
+            for (Object slot : n.array) {
+                buffer[filled++] = slot;
+                if (filled == buffer.length) {
+                    result[count++] = (level == 0) ? new Node(buffer, null) : internal(buffer);
+                    remaining -= filled;
+                    buffer = new Object[Math.min(WIDTH, remaining)];
+                    filled = 0;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * [fromIndex, toIndex) 범위의 새 벡터를 반환한다. 이 벡터는 바뀌지 않는다.
+     * 양 끝을 지나는 경로의 노드만 잘라서 새로 만들고 안쪽 부분 트리는 공유한다.
+     *
+     * @param fromIndex 시작 인덱스
+     * @param toIndex 끝 인덱스(포함하지 않음)
+     * @return 잘라낸 벡터
+     */
+    public PersistentVector<E> slice(int fromIndex, int toIndex) {
+        final int size = size();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Size: " + size + ", From: " + fromIndex + ", To: " + toIndex
+                );
+        if (fromIndex == toIndex)
+            return empty();
+        if (fromIndex == 0 && toIndex == size)
+            return this;
+        Node node = root;
+        if (toIndex < size)
+            node = take(node, height, toIndex);
+        if (fromIndex > 0)
+            node = drop(node, height, fromIndex);
+        int newHeight = height;
+        // 자식이 하나뿐인 루트는 걷어냄
+        while (newHeight > 0 && node.length() == 1) {
+            node = node.child(0);
+            newHeight--;
+        }
+        return new PersistentVector<>(node, newHeight);
+    }
+
+    // 앞의 n개만 남김 (0 < n < node.size())
+    private static Node take(Node node, int level, int n) {
+        if (level == 0)
+            return new Node(Arrays.copyOf(node.array, n), null);
+        int i = childIndex(node, n - 1, level);
+        int before = (i > 0) ? node.sizes[i - 1] : 0;
+        Object[] array = Arrays.copyOf(node.array, i + 1);
+        Node last = node.child(i);
+        if (n - before < last.size())
+            array[i] = take(last, level - 1, n - before);
+        return internal(array);
+    }
+
+    // 앞의 n개를 버림 (0 < n < node.size())
+    private static Node drop(Node node, int level, int n) {
+        if (level == 0)
+            return new Node(Arrays.copyOfRange(node.array, n, node.length()), null);
+        int i = childIndex(node, n, level);
+        int before = (i > 0) ? node.sizes[i - 1] : 0;
+        Object[] array = Arrays.copyOfRange(node.array, i, node.length());
+        if (n > before)
+            array[0] = drop(node.child(i), level - 1, n - before);
+        return internal(array);
+    }
+
+    /**
+     * 컬렉션의 원소를 모두 끝에 추가한 새 벡터를 반환한다.
+     * 원소가 많으면 빌더로 따로 트리를 세운 뒤 {@link #concat}으로 붙인다.
+     *
+     * @param c 추가할 원소들
+     * @return 원소가 추가된 벡터
+     */
+    public PersistentVector<E> appendAll(Collection<? extends E> c) {
+        if (c.size() < WIDTH) {
+            PersistentVector<E> result = this;
+            for (E e : c)
+                result = result.append(e);
+            return result;
+        }
+        return concat(of(c));
+    }
+
+    // 리프를 순서대로 방문해 배열로 복사함
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size()];
+        copyLeaves(root, height, result, 0);
+        return result;
+    }
+
+    private static int copyLeaves(Node node, int level, Object[] dest, int offset) {
+        if (level == 0) {
+            System.arraycopy(node.array, 0, dest, offset, node.length());
+            return offset + node.length();
+        }
+        for (Object child : node.array)
+            offset = copyLeaves((Node) child, level - 1, dest, offset);
+        return offset;
+    }
+
+    /**
+     * 리프 단위로 순회하는 이터레이터
+     * 원소마다 루트에서 내려가지 않고, 리프를 다 읽었을 때만 다음 리프를 찾는다.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            // 각 높이에서 지금 보고 있는 노드와 자식 위치
+            private final Node[] path = new Node[height + 1];
+            private final int[] position = new int[height + 1];
+            private Object[] leaf;
+            private int leafIndex;
+            private int remaining = size();
+
+            {
+                path[height] = root;
+                descend(height);
+            }
+
+            // level의 노드에서 position이 가리키는 자식을 따라 리프까지 내려감
+            private void descend(int level) {
+                for (; level > 0; level--) {
+                    path[level - 1] = path[level].child(position[level]);
+                    position[level - 1] = 0;
+                }
+                leaf = path[0].array;
+                leafIndex = 0;
+            }
+
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (remaining <= 0)
+                    throw new NoSuchElementException();
+                if (leafIndex == leaf.length) {
+                    // 아직 자식이 남은 가장 가까운 조상을 찾아 다음 자식으로 내려감
+                    int level = 1;
+                    while (position[level] + 1 == path[level].length())
+                        level++;
+                    position[level]++;
+                    descend(level);
+                }
+                remaining--;
+                return (E) leaf[leafIndex++];
+            }
+        };
+    }
+
+    /**
+     * 원소를 모아 한 번에 벡터를 만드는 빌더(transient 모드)
+     * 원소마다 경로를 복사하는 {@link #append} 대신, 리프를 그 자리에서 채우고
+     * {@link #build()}할 때 각 높이를 아래에서부터 한 번씩만 묶어서 O(n)으로 트리를 세운다.
+     * build 이후에도 계속 추가할 수 있고, 이미 만든 벡터에는 영향이 없다.
+     */
+    public static final class Builder<E> {
+        // 꽉 찬 리프들
+        private final ArrayList<Node> leaves = new ArrayList<>();
+        // 채우는 중인 리프
+        private Object[] tail = new Object[WIDTH];
+        private int tailSize;
+
+        public Builder<E> add(E element) {
+            if (tailSize == WIDTH) {
+                leaves.add(new Node(tail, null));
+                tail = new Object[WIDTH];
+                tailSize = 0;
+            }
+            tail[tailSize++] = element;
+            return this;
+        }
+
+        public Builder<E> addAll(Collection<? extends E> c) {
+            for (E e : c)
+                add(e);
+            return this;
+        }
+
+        public PersistentVector<E> build() {
+            final int leafCount = leaves.size() + ((tailSize > 0) ? 1 : 0);
+            if (leafCount == 0)
+                return empty();
+            Object[] level = new Object[leafCount];
+            leaves.toArray(level);
+            if (tailSize > 0)
+                level[leafCount - 1] = new Node(Arrays.copyOf(tail, tailSize), null);
+            int height = 0;
+            // 노드가 하나 남을 때까지 32개씩 묶어서 한 층씩 올림
+            while (level.length > 1) {
+                Object[] parents = new Object[(level.length + WIDTH - 1) / WIDTH];
+                for (int i = 0; i < parents.length; i++)
+                    parents[i] = internal(Arrays.copyOfRange(level, i * WIDTH,
+                        Math.min(level.length, (i + 1) * WIDTH)));
+                level = parents;
+                height++;
+            }
+            return new PersistentVector<>((Node) level[0], height);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package 배열리스트;
+
+public class PersistentVector테스트 {
+    public static void main(String[] args){
+        PersistentVector<Integer> v1 = PersistentVector.empty();
+        for (int i = 0; i < 100; i++)
+            v1 = v1.append(i);
+
+        // 이전 버전은 바뀌지 않음
+        PersistentVector<Integer> v2 = v1.update(0, -1);
+        System.out.println(v1.get(0) + ", " + v2.get(0));
+
+        // 빌더로 한 번에 만들기
+        PersistentVector.Builder<Integer> builder = new PersistentVector.Builder<>();
+        for (int i = 100; i < 5000; i++)
+            builder.add(i);
+        PersistentVector<Integer> v3 = builder.build();
+
+        // 이어붙이기와 자르기
+        PersistentVector<Integer> joined = v1.concat(v3);
+        System.out.println(joined.size() + ", " + joined.get(99) + ", " + joined.get(100));
+        PersistentVector<Integer> sliced = joined.slice(95, 105);
+        System.out.println(sliced);
+
+        // ArrayList와 주고받기
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(sliced);
+        list.add(1000);
+        System.out.println(PersistentVector.of(list).appendAll(list).size());
+    }
+}
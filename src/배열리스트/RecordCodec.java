@@ -0,0 +1,65 @@
+package 배열리스트;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 고정 크기 레코드를 바이트 버퍼에 쓰고 읽는 방법을 정의하는 인터페이스
+ * 힙 밖(off-heap)이나 파일에 원소를 저장하는 리스트는 객체 대신 바이트를 저장하므로
+ * 원소 하나가 몇 바이트를 차지하고, 어떻게 바이트로 바뀌는지를 알아야 한다.
+ *
+ * 구현체는 {@link #width()} 바이트 안에서만 읽고 써야 하며,
+ * 버퍼의 position이나 limit을 바꾸지 않도록 절대 위치(absolute) 메소드를 사용해야 한다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * 레코드 하나가 차지하는 바이트 수
+     * @return 0보다 큰 고정 크기
+     */
+    int width();
+
+    /**
+     * 버퍼의 특정 위치에 원소를 기록한다.
+     * @param buffer 기록할 버퍼
+     * @param offset 레코드가 시작하는 바이트 위치
+     * @param element 기록할 원소
+     */
+    void write(ByteBuffer buffer, int offset, E element);
+
+    /**
+     * 버퍼의 특정 위치에서 원소를 읽어온다.
+     * @param buffer 읽을 버퍼
+     * @param offset 레코드가 시작하는 바이트 위치
+     * @return 읽어온 원소
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    /**
+     * 4바이트 int 코덱
+     */
+    RecordCodec<Integer> INT = new RecordCodec<>() {
+        public int width() { return Integer.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Integer element) { buffer.putInt(offset, element); }
+        public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+    };
+
+    /**
+     * 8바이트 long 코덱
+     */
+    RecordCodec<Long> LONG = new RecordCodec<>() {
+        public int width() { return Long.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Long element) { buffer.putLong(offset, element); }
+        public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+    };
+
+    /**
+     * 8바이트 double 코덱
+     */
+    RecordCodec<Double> DOUBLE = new RecordCodec<>() {
+        public int width() { return Double.BYTES; }
+        public void write(ByteBuffer buffer, int offset, Double element) { buffer.putDouble(offset, element); }
+        public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+    };
+}
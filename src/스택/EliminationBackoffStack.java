@@ -0,0 +1,263 @@
+package 스택;
+
+import java.util.EmptyStackException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 소거 배열(elimination array)을 붙인 잠금 없는 스택
+ * {@link LockFreeStack}은 모든 스레드가 head 하나를 CAS하므로 스레드가 많아지면 대부분의 CAS가 실패한다.
+ * 이 스택은 head의 CAS에 실패한 스레드가 곧바로 다시 시도하지 않고, 소거 배열의 임의의 칸에서 잠시 상대를 기다린다.
+ * 같은 칸에서 push와 pop이 만나면 push의 값을 pop에게 직접 넘겨주고 둘 다 끝나므로
+ * 두 연산 모두 head를 건드리지 않는다. (push 직후 pop한 것과 결과가 같음)
+ * push끼리나 pop끼리 만나거나 시간 안에 상대가 오지 않으면 다시 head의 CAS를 시도한다.
+ *
+ * 각 스레드는 소거가 성공하면 사용하는 칸의 범위를 넓히고, 시간 초과가 나면 좁혀서
+ * 경합이 적을 때는 적은 칸에서 빨리 만나고 경합이 심할 때는 여러 칸으로 흩어진다.
+ *
+ * {@code null} 원소는 허용하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class EliminationBackoffStack<E> extends LockFreeStack<E> {
+
+    // 소거 배열의 기본 크기, 동시에 만날 수 있는 쌍의 수는 코어 수의 절반을 넘지 않음
+    private static final int DEFAULT_CAPACITY = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // 소거 배열에서 상대를 기다리는 기본 시간 (나노초)
+    private static final long DEFAULT_TIMEOUT_NANOS = 5_000;
+
+    // pop이 교환기에 내놓는 값, push의 값과 구분하기 위해 사용
+    private static final Object POP = new Object();
+
+    // 교환기에서 시간 안에 상대를 만나지 못했음을 나타내는 값
+    private static final Object TIMEOUT = new Object();
+
+    /**
+     * 두 스레드가 값을 맞바꾸는 한 칸짜리 교환기
+     * 스탬프로 칸의 상태를 나타낸다.
+     * EMPTY: 비어있음, WAITING: 한 스레드가 값을 놓고 기다리는 중, BUSY: 두 번째 스레드가 값을 바꿔놓음
+     */
+    static final class Exchanger {
+        private static final int EMPTY = 0, WAITING = 1, BUSY = 2;
+
+        private final AtomicStampedReference<Object> slot = new AtomicStampedReference<>(null, EMPTY);
+
+        /**
+         * myItem을 내놓고 상대의 값을 받는다.
+         * @param myItem 내놓을 값
+         * @param timeoutNanos 상대를 기다릴 최대 시간
+         * @return 상대가 내놓은 값, 시간 안에 만나지 못하면 {@link #TIMEOUT}
+         */
+        Object exchange(Object myItem, long timeoutNanos) {
+            final long deadline = System.nanoTime() + timeoutNanos;
+            final int[] stampHolder = {EMPTY};
+            while (System.nanoTime() < deadline) {
+                Object yourItem = slot.get(stampHolder);
+                switch (stampHolder[0]) {
+                    case EMPTY:
+                        // 먼저 와서 값을 놓고 상대를 기다림
+                        if (slot.compareAndSet(yourItem, myItem, EMPTY, WAITING)) {
+                            while (System.nanoTime() < deadline) {
+                                yourItem = slot.get(stampHolder);
+                                if (stampHolder[0] == BUSY) {
+                                    slot.set(null, EMPTY);
+                                    return yourItem;
+                                }
+                                Thread.onSpinWait();
+                            }
+                            // 시간 초과, 그 사이에 상대가 오지 않았다면 칸을 비우고 포기함
+                            if (slot.compareAndSet(myItem, null, WAITING, EMPTY))
+                                return TIMEOUT;
+                            yourItem = slot.getReference();
+                            slot.set(null, EMPTY);
+                            return yourItem;
+                        }
+                        break;
+                    case WAITING:
+                        // 기다리던 상대의 값을 가져가고 내 값을 놓음
+                        if (slot.compareAndSet(yourItem, myItem, WAITING, BUSY))
+                            return yourItem;
+                        break;
+                    default:
+                        // 다른 두 스레드가 교환을 마무리하는 중
+                        Thread.onSpinWait();
+                }
+            }
+            return TIMEOUT;
+        }
+    }
+
+    /**
+     * 스레드마다 소거 배열에서 사용할 칸의 범위를 조절함
+     */
+    private static final class RangePolicy {
+        private final int maxRange;
+        private int range = 1;
+
+        RangePolicy(int maxRange) {
+            this.maxRange = maxRange;
+        }
+
+        void recordEliminationSuccess() {
+            if (range < maxRange)
+                range++;
+        }
+
+        void recordEliminationTimeout() {
+            if (range > 1)
+                range--;
+        }
+    }
+
+    private final Exchanger[] exchangers;
+    private final long timeoutNanos;
+    private final ThreadLocal<RangePolicy> policy;
+
+    // 통계: 끝난 push와 pop의 수, 그 중 소거 배열에서 끝난 수, head CAS 실패 수
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder eliminated = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * @param capacity 소거 배열의 크기
+     * @param timeoutNanos 소거 배열에서 상대를 기다릴 최대 시간 (나노초)
+     * @throws IllegalArgumentException capacity가 1보다 작거나 timeoutNanos가 음수인 경우
+     */
+    public EliminationBackoffStack(int capacity, long timeoutNanos) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("소거 배열의 크기는 1 이상이어야 합니다: " + capacity);
+        if (timeoutNanos < 0)
+            throw new IllegalArgumentException("대기 시간은 음수일 수 없습니다: " + timeoutNanos);
+        this.exchangers = new Exchanger[capacity];
+        for (int i = 0; i < capacity; i++)
+            exchangers[i] = new Exchanger();
+        this.timeoutNanos = timeoutNanos;
+        this.policy = ThreadLocal.withInitial(() -> new RangePolicy(capacity));
+    }
+
+    public EliminationBackoffStack() {
+        this(DEFAULT_CAPACITY, DEFAULT_TIMEOUT_NANOS);
+    }
+
+    // 현재 스레드의 범위 안에서 임의의 칸을 골라 교환을 시도함
+    private Object visit(Object value, RangePolicy range) {
+        int slot = ThreadLocalRandom.current().nextInt(range.range);
+        return exchangers[slot].exchange(value, timeoutNanos);
+    }
+
+    /**
+     * item을 매개변수를 받아 Stack에 추가함
+     * @param item 추가할 요소
+     * @return 추가한 요소
+     * @throws NullPointerException item이 null인 경우
+     */
+    @Override
+    public E push(E item) {
+        Node<E> node = new Node<>(Objects.requireNonNull(item));
+        RangePolicy range = null;
+        while (!tryPush(node)) {
+            collisions.increment();
+            if (range == null)
+                range = policy.get();
+            Object other = visit(item, range);
+            if (other == POP) {
+                // pop이 값을 가져갔음
+                range.recordEliminationSuccess();
+                eliminated.increment();
+                break;
+            }
+            if (other == TIMEOUT)
+                range.recordEliminationTimeout();
+        }
+        operations.increment();
+        return item;
+    }
+
+    /**
+     * 마지막에 추가된 요소를 삭제하고 반환함
+     * @return 마지막에 추가된 요소
+     * @throws EmptyStackException 스택이 빈 경우에 발생
+     */
+    @Override
+    public E pop() {
+        E item = poll();
+        if (item == null)
+            throw new EmptyStackException();
+        return item;
+    }
+
+    /**
+     * 마지막에 추가된 요소를 삭제하고 반환함, 비어있으면 예외 대신 null을 반환
+     * @return 마지막에 추가된 요소, 비어있으면 {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        RangePolicy range = null;
+        while (true) {
+            Node<E> node = tryPop();
+            if (node == null)
+                return null;
+            if (node != CONTENDED) {
+                operations.increment();
+                return node.item;
+            }
+            collisions.increment();
+            if (range == null)
+                range = policy.get();
+            Object other = visit(POP, range);
+            if (other == TIMEOUT) {
+                range.recordEliminationTimeout();
+            } else if (other != POP) {
+                // push가 넘겨준 값을 받음
+                range.recordEliminationSuccess();
+                eliminated.increment();
+                operations.increment();
+                return (E) other;
+            }
+        }
+    }
+
+    /**
+     * @return 지금까지 끝난 push와 pop의 수
+     */
+    public long operationCount() {
+        return operations.sum();
+    }
+
+    /**
+     * @return 소거 배열에서 상대를 만나 head를 건드리지 않고 끝난 push와 pop의 수
+     */
+    public long eliminatedCount() {
+        return eliminated.sum();
+    }
+
+    /**
+     * @return head의 CAS에 실패해서 소거 배열로 간 횟수
+     */
+    public long collisionCount() {
+        return collisions.sum();
+    }
+
+    /**
+     * 끝난 연산 중 소거 배열에서 끝난 연산의 비율
+     * 통계는 스레드마다 따로 더해지므로 다른 스레드가 작업 중일 때는 근삿값이다.
+     * @return 0과 1 사이의 값, 아직 연산이 없으면 0
+     */
+    public double eliminationRate() {
+        long total = operations.sum();
+        return (total == 0) ? 0.0 : (double) eliminated.sum() / total;
+    }
+
+    /**
+     * 통계를 0으로 되돌림
+     */
+    public void resetStatistics() {
+        operations.reset();
+        eliminated.reset();
+        collisions.reset();
+    }
+}
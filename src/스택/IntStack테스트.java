@@ -0,0 +1,40 @@
+package 스택;
+
+import java.util.Arrays;
+
+public class IntStack테스트 {
+    public static void main(String[] args) {
+        IntStack stack = new IntStack();
+
+        stack.push(1);
+        stack.push(2);
+        stack.pushAll(new int[]{3, 4, 5});
+
+        System.out.println(stack);
+        System.out.println(stack.pop());
+        System.out.println(stack.peek() + ", " + stack.search(2));
+
+        int[] popped = new int[10];
+        int count = stack.popN(10, popped);
+        System.out.println(count + " " + Arrays.toString(Arrays.copyOf(popped, count)));
+        System.out.println(stack.isEmpty());
+
+        // 후위 표기식 3 4 + 2 * 7 - 계산
+        IntStack operands = new IntStack(16);
+        for (String token : "3 4 + 2 * 7 -".split(" ")) {
+            switch (token) {
+                case "+": operands.push(operands.pop() + operands.pop()); break;
+                case "*": operands.push(operands.pop() * operands.pop()); break;
+                case "-": { int b = operands.pop(); operands.push(operands.pop() - b); break; }
+                default: operands.push(Integer.parseInt(token));
+            }
+        }
+        System.out.println(operands.pop());
+
+        LongStack longs = new LongStack();
+        longs.ensureCapacity(1_000);
+        for (long i = 0; i < 1_000; i++)
+            longs.push(i * 1_000_000_000L);
+        System.out.println(longs.size() + ", " + longs.peek());
+    }
+}
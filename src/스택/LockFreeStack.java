@@ -0,0 +1,154 @@
+package 스택;
+
+import java.util.EmptyStackException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CAS(compare-and-set)로 맨 위 노드를 바꾸는 잠금 없는 스택 (Treiber stack)
+ * {@link Stack}은 동기화되지 않은 배열리스트를 상속하므로 여러 스레드가 쓰려면 synchronized로 감싸야 하고,
+ * 그러면 모든 push와 pop이 한 줄로 늘어서게 된다.
+ * 이 스택은 head 참조 하나를 CAS로 바꾸므로, 경합이 생기면 실패한 스레드만 다시 시도하고 아무도 막히지 않는다.
+ *
+ * ABA 문제: C처럼 노드를 재사용하는 구현에서는 pop 도중 같은 주소의 노드가 빠졌다가 다시 들어오면
+ * CAS가 잘못 성공할 수 있다. 여기서는 push마다 새 노드를 만들고 노드를 절대 재사용하지 않으며,
+ * 어떤 스레드가 참조를 들고 있는 동안에는 GC가 그 노드를 수거하지 않으므로 같은 참조가 다시 head가 될 수 없다.
+ * 따라서 스탬프(버전 번호) 없이도 ABA에 안전하다.
+ *
+ * {@code null} 원소는 허용하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class LockFreeStack<E> {
+
+    /**
+     * 스택의 노드
+     * next는 push가 CAS에 성공하기 전까지만 바뀌고, head에 올라간 뒤에는 바뀌지 않는다.
+     */
+    static final class Node<E> {
+        final E item;
+        Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    // tryPop이 경합으로 실패했음을 나타내는 표시용 노드
+    static final Node<Object> CONTENDED = new Node<>(null);
+
+    // 맨 위 노드, 비어있으면 null
+    private final AtomicReference<Node<E>> head = new AtomicReference<>();
+
+    public LockFreeStack() {
+    }
+
+    /**
+     * 노드를 한 번만 CAS로 올려본다.
+     * @param node 올릴 노드, 아직 어떤 스택에도 올라가지 않은 노드여야 함
+     * @return 성공하면 {@code true}, 다른 스레드와 경합해서 실패하면 {@code false}
+     */
+    boolean tryPush(Node<E> node) {
+        Node<E> oldHead = head.get();
+        node.next = oldHead;
+        return head.compareAndSet(oldHead, node);
+    }
+
+    /**
+     * 맨 위 노드를 한 번만 CAS로 빼본다.
+     * @return 뺀 노드, 비어있으면 {@code null}, 다른 스레드와 경합해서 실패하면 {@link #CONTENDED}
+     */
+    @SuppressWarnings("unchecked")
+    Node<E> tryPop() {
+        Node<E> oldHead = head.get();
+        if (oldHead == null)
+            return null;
+        return head.compareAndSet(oldHead, oldHead.next) ? oldHead : (Node<E>) CONTENDED;
+    }
+
+    /**
+     * item을 매개변수를 받아 Stack에 추가함
+     * @param item 추가할 요소
+     * @return 추가한 요소
+     * @throws NullPointerException item이 null인 경우
+     */
+    public E push(E item) {
+        Node<E> node = new Node<>(Objects.requireNonNull(item));
+        while (!tryPush(node))
+            Thread.onSpinWait();
+        return item;
+    }
+
+    /**
+     * 마지막에 추가된 요소를 삭제하고 반환함
+     * @return 마지막에 추가된 요소
+     * @throws EmptyStackException 스택이 빈 경우에 발생
+     */
+    public E pop() {
+        Node<E> oldHead;
+        do {
+            oldHead = head.get();
+            if (oldHead == null)
+                throw new EmptyStackException();
+        } while (!head.compareAndSet(oldHead, oldHead.next));
+        return oldHead.item;
+    }
+
+    /**
+     * 마지막에 추가된 요소를 삭제하고 반환함, 비어있으면 예외 대신 null을 반환
+     * 여러 스레드가 함께 쓸 때는 isEmpty와 pop 사이에 다른 스레드가 끼어들 수 있으므로 이 메소드를 쓰는 것이 안전함
+     * @return 마지막에 추가된 요소, 비어있으면 {@code null}
+     */
+    public E poll() {
+        Node<E> oldHead;
+        do {
+            oldHead = head.get();
+            if (oldHead == null)
+                return null;
+        } while (!head.compareAndSet(oldHead, oldHead.next));
+        return oldHead.item;
+    }
+
+    /**
+     * 마지막에 추가된 요소를 반환함.
+     * @return 마지막에 추가된 요소
+     * @throws EmptyStackException 스택이 빈 경우에 발생
+     */
+    public E peek() {
+        Node<E> h = head.get();
+        if (h == null)
+            throw new EmptyStackException();
+        return h.item;
+    }
+
+    /**
+     * 스택이 비어있는지 체크하고 반환함
+     * @return 비어있으면 {@code true}, 아니면 {@code false} 반환
+     */
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * 특정 요소의 위치를 맨 위에서부터 검색해서 반환
+     * 호출한 순간의 head부터 따라가므로, 그 이후의 push와 pop은 결과에 반영되지 않음
+     * @param o 찾을 요소
+     * @return 요소가 없다면 {@code -1}을 반환하고 있으면 맨 위를 1로 하는 위치를 반환함
+     */
+    public int search(Object o) {
+        int distance = 1;
+        for (Node<E> x = head.get(); x != null; x = x.next, distance++)
+            if (Objects.equals(o, x.item))
+                return distance;
+        return -1;
+    }
+
+    // ToString() 오버라이드, Stack과 같이 아래(먼저 넣은 것)부터 출력함
+    @Override
+    public String toString() {
+        java.util.ArrayDeque<E> items = new java.util.ArrayDeque<>();
+        for (Node<E> x = head.get(); x != null; x = x.next)
+            items.addFirst(x.item);
+        return items.toString();
+    }
+}
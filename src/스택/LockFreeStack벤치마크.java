@@ -0,0 +1,83 @@
+package 스택;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 여러 스레드가 동시에 push와 pop을 반복할 때
+ * synchronized로 감싼 {@link Stack}과 {@link LockFreeStack}, {@link EliminationBackoffStack}을 비교한다.
+ * 각 스레드는 push 한 번 뒤에 pop 한 번을 하므로 pop할 때 스택이 비어있는 일은 없다.
+ * 넣은 값의 합과 뺀 값의 합이 같은지도 함께 확인한다.
+ */
+public class LockFreeStack벤치마크 {
+
+    static final int OPERATIONS = 1_000_000;
+
+    // threads개의 스레드가 동시에 시작해서 끝날 때까지의 시간을 잼
+    static long run(int threads, Consumer<Integer> push, Supplier<Integer> pop) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong pushed = new AtomicLong();
+        AtomicLong popped = new AtomicLong();
+        final int perThread = OPERATIONS / threads;
+
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            new Thread(() -> {
+                long in = 0, out = 0;
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    push.accept(base + i);
+                    in += base + i;
+                    out += pop.get();
+                }
+                pushed.addAndGet(in);
+                popped.addAndGet(out);
+                done.countDown();
+            }).start();
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+
+        if (pushed.get() != popped.get())
+            System.out.print("(합이 다릅니다: " + pushed.get() + " != " + popped.get() + ") ");
+        return elapsed;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int max = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (int round = 1; round <= 3; round++) {
+            System.out.println(round + "회차");
+            for (int threads = 1; threads <= max; threads *= 2) {
+                Stack<Integer> stack = new Stack<>();
+                long locked = run(threads,
+                    item -> { synchronized (stack) { stack.push(item); } },
+                    () -> { synchronized (stack) { return stack.pop(); } });
+
+                LockFreeStack<Integer> lockFree = new LockFreeStack<>();
+                long free = run(threads, lockFree::push, lockFree::pop);
+
+                EliminationBackoffStack<Integer> elimination = new EliminationBackoffStack<>();
+                long eliminating = run(threads, elimination::push, elimination::pop);
+
+                System.out.printf("  스레드 %d개 synchronized Stack: %,d us, LockFreeStack: %,d us, "
+                        + "EliminationBackoffStack: %,d us (소거 비율 %.1f%%)%n",
+                    threads, locked / 1000, free / 1000, eliminating / 1000,
+                    elimination.eliminationRate() * 100);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package 스택;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+import 배열리스트.GrowthPolicy;
+
+/**
+ * long 원시 타입 전용 스택
+ * {@link Stack}은 배열리스트를 상속하므로 pop 한 번에 peek, get, remove를 거치면서 인덱스를 여러 번 검사하고,
+ * 모든 값을 Long으로 박싱한다.
+ * 이 클래스는 long[]에 값을 그대로 담고, push와 pop에서 크기를 한 번만 비교한다.
+ * 용량이 충분하면 push, pop, peek은 객체를 만들지 않는다.
+ */
+public class LongStack {
+
+    // 기본 스택 크기
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // 빈 배열의 경우 인스턴스를 공유하기 위한 배열 인스턴스
+    private static final long[] EMPTY_ARRAY = {};
+
+    // 요소를 담을 배열, [0, size)가 아래부터 위로 쌓인 값
+    private long[] array;
+
+    // 스택에 쌓인 값의 개수
+    private int size;
+
+    public LongStack(int capacity){
+        if (capacity < 0)
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + capacity);
+        this.array = (capacity == 0) ? EMPTY_ARRAY : new long[capacity];
+    }
+
+    public LongStack(){
+        this.array = EMPTY_ARRAY;
+    }
+
+    // 어레이의 크기를 키우는 메소드
+    private long[] growUp(int minCapacity){
+        int oldCapacity = array.length;
+        if(oldCapacity > 0){
+            int newCapacity = Math.max(GrowthPolicy.DEFAULT.newCapacity(oldCapacity, minCapacity), minCapacity);
+            return array = Arrays.copyOf(array, newCapacity);
+        }else{
+            return array = new long[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+    }
+
+    /**
+     * 최소 minCapacity개의 값을 다시 할당하지 않고 쌓을 수 있도록 용량을 늘린다.
+     * @param minCapacity 필요한 최소 용량
+     */
+    public void ensureCapacity(int minCapacity){
+        if (minCapacity > array.length)
+            growUp(minCapacity);
+    }
+
+    /**
+     * 크기를 어레이의 크기에 맞추는 메소드
+     */
+    public void trimToSize(){
+        if (size < array.length)
+            array = (size == 0) ? EMPTY_ARRAY : Arrays.copyOf(array, size);
+    }
+
+    /**
+     * value를 스택에 추가함
+     * @param value 추가할 값
+     */
+    public void push(long value){
+        final int s = size;
+        long[] a = array;
+        if (s == a.length)
+            a = growUp(s + 1);
+        a[s] = value;
+        size = s + 1;
+    }
+
+    /**
+     * 배열의 모든 값을 앞에서부터 차례로 push한다.
+     * 용량 확인과 복사를 한 번만 한다.
+     * @param values 추가할 값들, 마지막 값이 맨 위가 됨
+     */
+    public void pushAll(long[] values){
+        pushAll(values, 0, values.length);
+    }
+
+    /**
+     * 배열의 [from, to) 범위의 값을 앞에서부터 차례로 push한다.
+     * @param values 추가할 값들
+     * @param from 복사를 시작할 위치
+     * @param to 복사를 끝낼 위치(포함하지 않음)
+     * @throws IndexOutOfBoundsException 범위가 배열을 벗어난 경우
+     */
+    public void pushAll(long[] values, int from, int to){
+        final int n = to - from;
+        if (from < 0 || to > values.length || n < 0)
+            throw new IndexOutOfBoundsException(
+                "범위가 배열 밖입니다. Length: " + values.length + ", From: " + from + ", To: " + to
+                );
+        final int s = size;
+        if (n > array.length - s)
+            growUp(s + n);
+        System.arraycopy(values, from, array, s, n);
+        size = s + n;
+    }
+
+    /**
+     * 마지막에 추가된 값을 삭제하고 반환함
+     * @return 마지막에 추가된 값
+     * @throws EmptyStackException 스택이 빈 경우에 발생
+     */
+    public long pop(){
+        final int s = size - 1;
+        if (s < 0)
+            throw new EmptyStackException();
+        size = s;
+        return array[s];
+    }
+
+    /**
+     * 위에서부터 최대 n개의 값을 꺼내 dest의 앞에서부터 담는다.
+     * dest[0]이 원래 맨 위에 있던 값이므로 pop을 n번 한 것과 순서가 같다.
+     * @param n 꺼낼 최대 개수
+     * @param dest 꺼낸 값을 담을 배열
+     * @return 실제로 꺼낸 개수, 스택에 n개보다 적게 있으면 있는 만큼만 꺼냄
+     * @throws IllegalArgumentException n이 음수인 경우
+     * @throws IndexOutOfBoundsException 꺼낼 개수가 dest의 길이보다 큰 경우
+     */
+    public int popN(int n, long[] dest){
+        if (n < 0)
+            throw new IllegalArgumentException("꺼낼 개수는 음수일 수 없습니다: " + n);
+        final int count = Math.min(n, size);
+        if (count > dest.length)
+            throw new IndexOutOfBoundsException(
+                "담을 배열이 작습니다. Length: " + dest.length + ", Count: " + count
+                );
+        final long[] a = array;
+        final int top = size - 1;
+        for (int i = 0; i < count; i++)
+            dest[i] = a[top - i];
+        size = top + 1 - count;
+        return count;
+    }
+
+    /**
+     * 마지막에 추가된 값을 반환함.
+     * @return 마지막에 추가된 값
+     * @throws EmptyStackException 스택이 빈 경우에 발생
+     */
+    public long peek(){
+        final int s = size - 1;
+        if (s < 0)
+            throw new EmptyStackException();
+        return array[s];
+    }
+
+    /**
+     * 스택의 크기가 0인지 체크하고 반환함
+     * @return 스택의 크기가 0이면 {@code true}, 아니면 {@code false} 반환
+     */
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    /**
+     * 특정 값의 위치를 위에서부터 검색해서 반환
+     * @param value 찾을 값
+     * @return 값이 없다면 {@code -1}을 반환하고 있으면 맨 위를 1로 하는 위치를 반환함
+     */
+    public int search(long value){
+        final long[] a = array;
+        for (int i = size - 1; i >= 0; i--)
+            if (a[i] == value)
+                return size - i;
+        return -1;
+    }
+
+    // 스택을 비움, 원시 타입이므로 배열을 지울 필요는 없음
+    public void clear(){
+        size = 0;
+    }
+
+    /**
+     * @return 아래부터 위로 쌓인 순서의 값을 담은 새 배열
+     */
+    public long[] toArray(){
+        return Arrays.copyOf(array, size);
+    }
+
+    // ToString() 오버라이드, 아래부터 출력함
+    @Override
+    public String toString(){
+        return Arrays.toString(toArray());
+    }
+}
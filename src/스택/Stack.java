@@ -1,8 +1,11 @@
 package 스택;
 
+import java.util.Collection;
 import java.util.EmptyStackException;
+import java.util.function.Consumer;
 
 import 배열리스트.ArrayList;
+import 배열리스트.GrowthPolicy;
 
 public class Stack<E> extends ArrayList<E>{
     // 기존 java.util.Stack은 Vector클래스를 상속하여 구현되어 있다.
@@ -12,6 +15,14 @@ public class Stack<E> extends ArrayList<E>{
     public Stack(){
     }
 
+    /**
+     * 용량 증가 정책을 지정해서 스택을 만듦
+     * @param growthPolicy 용량이 모자랄 때 새 용량을 정하는 정책
+     */
+    public Stack(GrowthPolicy growthPolicy){
+        super(growthPolicy);
+    }
+
     /**
      * item을 매개변수를 받아 Stack에 추가함
      * @param item 추가할 요소
@@ -35,6 +46,46 @@ public class Stack<E> extends ArrayList<E>{
         return obj;
     }
 
+    /**
+     * 배열의 요소를 앞에서부터 차례로 push함
+     * push를 반복하는 것과 결과는 같지만 용량 확인과 복사를 한 번만 함
+     * @param items 추가할 요소들, 마지막 요소가 맨 위가 됨
+     */
+    public void pushAll(E[] items){
+        addRange(items, 0, items.length);
+    }
+
+    /**
+     * 컬렉션의 요소를 반복자 순서대로 push함
+     * @param items 추가할 요소들, 반복자의 마지막 요소가 맨 위가 됨
+     */
+    public void pushAll(Collection<? extends E> items){
+        addAll(items);
+    }
+
+    /**
+     * 위에서부터 최대 n개의 요소를 꺼내 dest의 앞에서부터 담음
+     * dest[0]이 원래 맨 위에 있던 요소이므로 pop을 n번 한 것과 순서가 같음
+     * @param dest 꺼낸 요소를 담을 배열
+     * @param n 꺼낼 최대 개수
+     * @return 실제로 꺼낸 개수, 스택에 n개보다 적게 있으면 있는 만큼만 꺼냄
+     * @throws IllegalArgumentException n이 음수인 경우
+     * @throws IndexOutOfBoundsException 꺼낼 개수가 dest의 길이보다 큰 경우
+     */
+    public int popInto(E[] dest, int n){
+        return removeTail(dest, 0, n);
+    }
+
+    /**
+     * 스택이 빌 때까지 pop한 순서대로 요소를 action에 넘김
+     * action이 예외를 던지면 그때까지 넘긴 요소만 스택에서 빠짐
+     * @param action 요소를 받을 동작, 이 스택을 수정하면 안 됨
+     * @return 넘긴 요소의 개수
+     */
+    public int drainTo(Consumer<? super E> action){
+        return removeTail(action);
+    }
+
     /**
      * 마지막에 추가된 요소를 반환함.
      * @return {@code ArrayList}의 마지막에 추가된 요소
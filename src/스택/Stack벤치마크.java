@@ -0,0 +1,57 @@
+package 스택;
+
+/**
+ * 한꺼번에 넣고 꺼내는 작업에서
+ * push/pop을 반복하는 것과 pushAll/popInto/drainTo를 비교한다.
+ * JIT 컴파일이 끝나도록 몇 번 돌린 뒤 마지막 결과를 출력한다.
+ */
+public class Stack벤치마크 {
+
+    static final int BURST = 4_096;
+    static final int ROUNDS = 2_000;
+
+    static long loop(Integer[] burst, Integer[] out) {
+        Stack<Integer> stack = new Stack<>();
+        long check = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < ROUNDS; r++) {
+            for (Integer item : burst)
+                stack.push(item);
+            for (int i = 0; i < BURST / 2; i++)
+                out[i] = stack.pop();
+            while (!stack.isEmpty())
+                check += stack.pop();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.print("(check " + (check + out[0]) + ") ");
+        return elapsed;
+    }
+
+    static long bulk(Integer[] burst, Integer[] out) {
+        Stack<Integer> stack = new Stack<>();
+        long[] check = {0};
+        long start = System.nanoTime();
+        for (int r = 0; r < ROUNDS; r++) {
+            stack.pushAll(burst);
+            stack.popInto(out, BURST / 2);
+            stack.drainTo(item -> check[0] += item);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.print("(check " + (check[0] + out[0]) + ") ");
+        return elapsed;
+    }
+
+    public static void main(String[] args) {
+        Integer[] burst = new Integer[BURST];
+        for (int i = 0; i < BURST; i++)
+            burst[i] = i;
+        Integer[] out = new Integer[BURST];
+
+        for (int round = 1; round <= 3; round++) {
+            long looped = loop(burst, out);
+            long bulked = bulk(burst, out);
+            System.out.printf("%n%d회차 push/pop 반복: %,d us, pushAll/popInto/drainTo: %,d us%n",
+                round, looped / 1000, bulked / 1000);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package 스택;
 
+import java.util.Arrays;
+import java.util.List;
+
+import 배열리스트.GrowthPolicy;
+
 public class Stack테스트 {
     public static void main(String[] args) {
         Stack<Integer> stack = new Stack<>();
@@ -17,5 +22,35 @@ public class Stack테스트 {
             stack.pop();
         }
         System.out.println(stack);
+
+        // 2배씩 키우는 스택의 용량 증가 통계
+        Stack<Integer> doubling = new Stack<>(GrowthPolicy.factor(2.0));
+        for (int i = 0; i < 100_000; i++)
+            doubling.push(i);
+        System.out.println(doubling.resizeCount() + ", " + doubling.copiedElements()
+            + ", " + doubling.peakCapacity() + ", " + doubling.wastedSlots());
+
+        // clone은 배열을 공유하고, 처음 수정하는 쪽만 복사함
+        @SuppressWarnings("unchecked")
+        Stack<Integer> checkpoint = (Stack<Integer>) doubling.clone();
+        doubling.pop();
+        System.out.println(checkpoint.size() + ", " + doubling.size());
+        System.out.println(checkpoint.peek() + ", " + doubling.peek());
+
+        // 한꺼번에 넣고 꺼내기
+        Stack<String> tokens = new Stack<>();
+        tokens.pushAll(new String[]{"a", "b", "c"});
+        tokens.pushAll(List.of("d", "e"));
+        String[] top = new String[2];
+        System.out.println(tokens.popInto(top, 2) + " " + Arrays.toString(top) + " " + tokens);
+        StringBuilder drained = new StringBuilder();
+        System.out.println(tokens.drainTo(drained::append) + " " + drained + " " + tokens.isEmpty());
+
+        // 공유 중인 clone에서 꺼내도 원본은 그대로임
+        @SuppressWarnings("unchecked")
+        Stack<Integer> shared = (Stack<Integer>) checkpoint.clone();
+        Integer[] last = new Integer[3];
+        shared.popInto(last, 3);
+        System.out.println(Arrays.toString(last) + " " + checkpoint.peek() + ", " + shared.peek());
     }
 }
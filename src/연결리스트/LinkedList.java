@@ -89,6 +89,15 @@ public class LinkedList<E> extends AbstractSequentialList<E>
             throw new IndexOutOfBoundsException("인덱스: "+index+", 사이즈: "+size);
     }
 
+    /**
+     * 반복자의 시작 위치가 범위를 벗어나는지 체크함, 끝(size)에서 시작하는 것은 허용함
+     * @param index
+     */
+    private void checkPositionIndex(int index) {
+        if (!(index >= 0 && index <= size))
+            throw new IndexOutOfBoundsException("인덱스: "+index+", 사이즈: "+size);
+    }
+
     /**
      * 특정 인덱스 값의 노드를 반환한다.
      * 
@@ -512,6 +521,86 @@ public class LinkedList<E> extends AbstractSequentialList<E>
         return (l == null) ? null : unlinkLast(l);
     }
 
+    /**
+     * 앞에서부터 최대 max개의 노드의 값을 action에 넘기고, 넘긴 노드들을 한 번에 분리한다.
+     * poll을 반복하면 노드마다 first와 size, modCount를 고치지만
+     * 여기서는 노드를 따라가며 값만 넘기고 끝에서 first를 한 번만 옮긴다.
+     * action이 예외를 던지면 그 전까지 넘긴 노드만 분리된다.
+     * null 원소도 그대로 넘긴다.
+     *
+     * @param action 꺼낸 값을 받을 동작, 이 리스트를 수정하면 안 됨
+     * @param max 꺼낼 최대 원소 수
+     * @return 꺼낸 원소의 수
+     * @throws IllegalArgumentException max가 음수인 경우
+     */
+    @Override
+    public int drain(Consumer<? super E> action, int max) {
+        Objects.requireNonNull(action);
+        if (max < 0)
+            throw new IllegalArgumentException("꺼낼 개수는 음수일 수 없습니다: " + max);
+        Node<E> x = first;
+        int n = 0;
+        try {
+            while (n < max && x != null) {
+                action.accept(x.data);
+                // 넘긴 노드는 GC가 바로 수거할 수 있도록 연결을 끊음
+                final Node<E> next = x.next;
+                x.data = null;
+                x.prev = null;
+                x.next = null;
+                x = next;
+                n++;
+            }
+        } finally {
+            if (n > 0) {
+                first = x;
+                if (x == null)
+                    last = null;
+                else
+                    x.prev = null;
+                size -= n;
+                modCount++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 배열의 [from, to) 범위의 값으로 노드 사슬을 먼저 만들고 마지막 노드 뒤에 한 번에 잇는다.
+     * 용량 제한이 없으므로 항상 모든 원소를 추가한다.
+     *
+     * @param batch 추가할 값들
+     * @param from 추가를 시작할 위치
+     * @param to 추가를 끝낼 위치(포함하지 않음)
+     * @return 추가한 원소의 수
+     * @throws IndexOutOfBoundsException 범위가 배열을 벗어난 경우
+     */
+    @Override
+    public int offerAll(E[] batch, int from, int to) {
+        if (from < 0 || to > batch.length || from > to)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Length: " + batch.length + ", From: " + from + ", To: " + to
+                );
+        if (from == to)
+            return 0;
+        final Node<E> l = last;
+        final Node<E> head = new Node<>(l, batch[from], null);
+        Node<E> tail = head;
+        for (int i = from + 1; i < to; i++) {
+            final Node<E> newNode = new Node<>(tail, batch[i], null);
+            tail.next = newNode;
+            tail = newNode;
+        }
+        if (l == null)
+            first = head;
+        else
+            l.next = head;
+        last = tail;
+        size += to - from;
+        modCount++;
+        return to - from;
+    }
+
     /**
      * 첫 번째 노드의 값을 제거하고 반환한다.
      * 이 메소드는 {@link LinkedList#removeFirst} 와 동일하다.
@@ -694,7 +783,7 @@ public class LinkedList<E> extends AbstractSequentialList<E>
 
     @Override
     public ListIterator<E> listIterator(int index) {
-        checkElementIndex(index);
+        checkPositionIndex(index);
         return new ListItr(index);
     }
 
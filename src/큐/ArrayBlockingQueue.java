@@ -0,0 +1,434 @@
+package 큐;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 원형 배열로 구현한 {@link BlockingQueue}
+ * 잠금 하나로 모든 연산을 보호하고, 비었을 때 기다리는 소비자와 가득 찼을 때 기다리는 생산자는
+ * 각각 다른 {@link Condition}에서 기다리므로 필요한 쪽만 깨운다.
+ *
+ * 반복자는 만든 시점의 원소를 복사해서 보여주므로 반복 중에 큐가 바뀌어도 예외를 던지지 않는다.
+ * 반복자의 remove는 equals가 아니라 반환한 것과 같은 인스턴스(==)를 찾아 지우므로, 같은 값이 여러 개 있어도 다른 원소를 지우지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class ArrayBlockingQueue<E> extends AbstractCollection<E> implements BlockingQueue<E> {
+
+    // 원소를 담는 배열
+    private final Object[] items;
+
+    // 다음에 꺼낼 위치
+    private int takeIndex;
+
+    // 다음에 넣을 위치
+    private int putIndex;
+
+    // 원소의 수
+    private int count;
+
+    // 모든 연산을 보호하는 잠금
+    private final ReentrantLock lock;
+
+    // 원소가 들어오기를 기다리는 조건
+    private final Condition notEmpty;
+
+    // 자리가 생기기를 기다리는 조건
+    private final Condition notFull;
+
+    /**
+     * @param capacity 담을 수 있는 최대 원소 수
+     * @param fair {@code true}면 오래 기다린 스레드부터 잠금을 얻음, 처리량은 줄어듦
+     * @throws IllegalArgumentException capacity가 1보다 작은 경우
+     */
+    public ArrayBlockingQueue(int capacity, boolean fair) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("용량은 1 이상이어야 합니다: " + capacity);
+        this.items = new Object[capacity];
+        this.lock = new ReentrantLock(fair);
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+    public ArrayBlockingQueue(int capacity) {
+        this(capacity, false);
+    }
+
+    // 잠금을 잡은 상태에서 뒤에 넣고 기다리는 소비자 하나를 깨움
+    private void enqueue(E e) {
+        final Object[] a = items;
+        a[putIndex] = e;
+        if (++putIndex == a.length)
+            putIndex = 0;
+        count++;
+        notEmpty.signal();
+    }
+
+    // 잠금을 잡은 상태에서 앞에서 꺼내고 기다리는 생산자 하나를 깨움
+    @SuppressWarnings("unchecked")
+    private E dequeue() {
+        final Object[] a = items;
+        E e = (E) a[takeIndex];
+        a[takeIndex] = null;
+        if (++takeIndex == a.length)
+            takeIndex = 0;
+        count--;
+        notFull.signal();
+        return e;
+    }
+
+    // 잠금을 잡은 상태에서 i번 칸을 지우고 뒤쪽 원소를 한 칸씩 당김
+    private void removeAt(int i) {
+        final Object[] a = items;
+        if (i == takeIndex) {
+            a[takeIndex] = null;
+            if (++takeIndex == a.length)
+                takeIndex = 0;
+        } else {
+            for (int next; (next = (i + 1 == a.length) ? 0 : i + 1) != putIndex; i = next)
+                a[i] = a[next];
+            a[i] = null;
+            putIndex = i;
+        }
+        count--;
+        notFull.signal();
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (count == items.length)
+                return false;
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean add(E e) {
+        if (offer(e))
+            return true;
+        throw new IllegalStateException("큐가 가득 찼습니다. Capacity: " + items.length);
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length)
+                notFull.await();
+            enqueue(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                if (nanos <= 0L)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return (count == 0) ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E remove() {
+        E x = poll();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (count == 0)
+                notEmpty.await();
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E peek() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return (E) items[takeIndex];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E element() {
+        E x = peek();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public int size() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return items.length - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null)
+            return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            final Object[] a = items;
+            for (int i = takeIndex, k = 0; k < count; k++) {
+                if (o.equals(a[i])) {
+                    removeAt(i);
+                    return true;
+                }
+                if (++i == a.length)
+                    i = 0;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 같은 인스턴스를 앞에서부터 찾아 지움, 반복자의 remove에서 사용
+    private void removeEq(Object o) {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            final Object[] a = items;
+            for (int i = takeIndex, k = 0; k < count; k++) {
+                if (a[i] == o) {
+                    removeAt(i);
+                    return;
+                }
+                if (++i == a.length)
+                    i = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null)
+            return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            final Object[] a = items;
+            for (int i = takeIndex, k = 0; k < count; k++) {
+                if (o.equals(a[i]))
+                    return true;
+                if (++i == a.length)
+                    i = 0;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 큐를 비우고 기다리던 생산자를 모두 깨움
+    @Override
+    public void clear() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (count > 0) {
+                Arrays.fill(items, null);
+                takeIndex = putIndex = count = 0;
+                notFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this)
+            throw new IllegalArgumentException("자기 자신에게 옮길 수 없습니다.");
+        if (maxElements < 0)
+            throw new IllegalArgumentException("꺼낼 개수는 음수일 수 없습니다: " + maxElements);
+        if (maxElements == 0)
+            return 0;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            final int n = Math.min(maxElements, count);
+            int i = 0;
+            try {
+                for (; i < n; i++) {
+                    @SuppressWarnings("unchecked")
+                    E e = (E) items[takeIndex];
+                    c.add(e);
+                    items[takeIndex] = null;
+                    if (++takeIndex == items.length)
+                        takeIndex = 0;
+                }
+                return n;
+            } finally {
+                // c.add가 예외를 던져도 옮긴 만큼은 반영하고, 생긴 자리만큼 생산자를 깨움
+                if (i > 0) {
+                    count -= i;
+                    notFull.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 앞에서부터 차례로 복사함
+    @Override
+    public Object[] toArray() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            final Object[] a = items;
+            final Object[] result = new Object[count];
+            final int right = Math.min(count, a.length - takeIndex);
+            System.arraycopy(a, takeIndex, result, 0, right);
+            System.arraycopy(a, 0, result, right, count - right);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만든 시점의 원소를 복사해서 도는 반복자를 반환함
+     * 반복 중에 큐가 바뀌어도 예외를 던지지 않고, remove는 반환한 인스턴스가 아직 큐에 있으면 지움
+     *
+     * @return 큐의 원소에 대한 Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator<>(this::removeEq, toArray());
+    }
+
+    /**
+     * 복사해둔 배열을 도는 반복자, remove는 remover로 원래 컬렉션에서 같은 인스턴스를 지움
+     * remover는 equals가 아니라 ==로 찾아야 같은 값이 여러 개일 때 엉뚱한 원소를 지우지 않음
+     * 이 패키지의 잠금 기반 큐들이 함께 사용함
+     */
+    static final class SnapshotIterator<E> implements Iterator<E> {
+        private final Consumer<Object> remover;
+        private final Object[] snapshot;
+        private int cursor;
+        private int lastRet = -1;
+
+        SnapshotIterator(Consumer<Object> remover, Object[] snapshot) {
+            this.remover = remover;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (cursor >= snapshot.length)
+                throw new NoSuchElementException();
+            return (E) snapshot[lastRet = cursor++];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            remover.accept(snapshot[lastRet]);
+            lastRet = -1;
+        }
+    }
+}
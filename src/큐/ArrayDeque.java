@@ -0,0 +1,568 @@
+package 큐;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 원형 배열로 구현한 데크
+ * {@link 연결리스트.LinkedList}는 원소마다 노드를 만들고 pollFirst마다 포인터를 따라가야 하지만,
+ * 이 클래스는 배열 하나에 원소를 담고 head와 tail 두 인덱스만 움직인다.
+ *
+ * 배열의 길이를 항상 2의 거듭제곱으로 유지하므로 인덱스가 배열 끝을 넘어가면
+ * 나머지 연산 대신 {@code & (length - 1)}로 감싼다.
+ * 배열이 가득 차면 두 배로 키우므로 양쪽 끝의 삽입과 삭제는 상각 O(1)이다.
+ *
+ * <pre>
+ * [d e _ _ _ a b c]
+ *      ^     ^
+ *    tail   head
+ * </pre>
+ *
+ * 빈 칸을 null로 구분하므로 {@code null} 원소는 허용하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class ArrayDeque<E> extends AbstractCollection<E> implements Deque<E>, Cloneable {
+
+    // 기본 배열 크기, 2의 거듭제곱이어야 함
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // 가장 작은 배열 크기
+    private static final int MIN_CAPACITY = 8;
+
+    // 원소를 담는 배열, 길이는 항상 2의 거듭제곱이고 적어도 한 칸은 비어있음
+    Object[] elements;
+
+    // 맨 앞 원소의 위치, 비어있으면 tail과 같음
+    int head;
+
+    // 맨 뒤 원소의 다음 위치 (다음에 addLast할 위치)
+    int tail;
+
+    public ArrayDeque() {
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * @param numElements 다시 할당하지 않고 담을 수 있어야 하는 원소의 수
+     * @throws IllegalArgumentException numElements가 음수인 경우
+     */
+    public ArrayDeque(int numElements) {
+        this.elements = new Object[tableSizeFor(numElements)];
+    }
+
+    public ArrayDeque(Collection<? extends E> c) {
+        this(c.size());
+        addAll(c);
+    }
+
+    // numElements개를 담고도 한 칸이 남는 가장 작은 2의 거듭제곱을 구함
+    private static int tableSizeFor(int numElements) {
+        if (numElements < 0)
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + numElements);
+        if (numElements >= 1 << 30)
+            throw new OutOfMemoryError(
+                "메모리 용량 초과: " + numElements + "개를 담는 배열을 만들 수 없습니다."
+            );
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(numElements) << 1);
+    }
+
+    // 배열이 가득 찼을 때 두 배로 키우고 원소를 0번부터 다시 늘어놓음
+    private void doubleCapacity() {
+        final Object[] a = elements;
+        final int h = head;
+        final int n = a.length;
+        final int newCapacity = n << 1;
+        if (newCapacity < 0)
+            throw new OutOfMemoryError(
+                "메모리 용량 초과: " + n + "의 배열로는 확장할 수 없습니다."
+            );
+        // head 오른쪽의 원소를 먼저 옮기고, 배열 앞쪽으로 감싸진 원소를 그 뒤에 옮김
+        final int right = n - h;
+        final Object[] grown = new Object[newCapacity];
+        System.arraycopy(a, h, grown, 0, right);
+        System.arraycopy(a, 0, grown, right, h);
+        elements = grown;
+        head = 0;
+        tail = n;
+    }
+
+    // needed개를 더 넣어도 한 칸이 남도록 배열을 키움, 원소는 0번부터 다시 늘어놓음
+    private void ensureRoom(int needed) {
+        final Object[] a = elements;
+        final int s = size();
+        if (needed < a.length - s)
+            return;
+        if (needed >= (1 << 30) - s)
+            throw new OutOfMemoryError(
+                "메모리 용량 초과: " + a.length + "의 배열로는 확장할 수 없습니다."
+            );
+        final Object[] grown = new Object[tableSizeFor(s + needed)];
+        final int h = head;
+        final int right = Math.min(s, a.length - h);
+        System.arraycopy(a, h, grown, 0, right);
+        System.arraycopy(a, 0, grown, right, s - right);
+        elements = grown;
+        head = 0;
+        tail = s;
+    }
+
+    // *** 삽입 ***
+
+    @Override
+    public void addFirst(E e) {
+        Objects.requireNonNull(e);
+        final Object[] a = elements;
+        a[head = (head - 1) & (a.length - 1)] = e;
+        if (head == tail)
+            doubleCapacity();
+    }
+
+    @Override
+    public void addLast(E e) {
+        Objects.requireNonNull(e);
+        final Object[] a = elements;
+        a[tail] = e;
+        if ((tail = (tail + 1) & (a.length - 1)) == head)
+            doubleCapacity();
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    // *** 삭제 ***
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E pollFirst() {
+        final Object[] a = elements;
+        final int h = head;
+        E result = (E) a[h];
+        // 비어있으면 head 칸은 null
+        if (result == null)
+            return null;
+        a[h] = null;
+        head = (h + 1) & (a.length - 1);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E pollLast() {
+        final Object[] a = elements;
+        final int t = (tail - 1) & (a.length - 1);
+        E result = (E) a[t];
+        if (result == null)
+            return null;
+        a[t] = null;
+        tail = t;
+        return result;
+    }
+
+    /**
+     * 앞에서부터 최대 max개의 원소를 action에 넘기고 head를 마지막에 한 번만 옮긴다.
+     * action이 예외를 던지면 그 전까지 넘긴 원소만 빠진다.
+     *
+     * @param action 꺼낸 원소를 받을 동작, 이 데크를 수정하면 안 됨
+     * @param max 꺼낼 최대 원소 수
+     * @return 꺼낸 원소의 수
+     * @throws IllegalArgumentException max가 음수인 경우
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public int drain(Consumer<? super E> action, int max) {
+        Objects.requireNonNull(action);
+        if (max < 0)
+            throw new IllegalArgumentException("꺼낼 개수는 음수일 수 없습니다: " + max);
+        final Object[] a = elements;
+        final int mask = a.length - 1;
+        final int n = Math.min(max, size());
+        int h = head;
+        try {
+            for (int i = 0; i < n; i++) {
+                action.accept((E) a[h]);
+                a[h] = null;
+                h = (h + 1) & mask;
+            }
+        } finally {
+            head = h;
+        }
+        return n;
+    }
+
+    /**
+     * 배열의 [from, to) 범위의 원소를 한 번의 용량 확인과 최대 두 번의 복사로 뒤에 넣는다.
+     * 용량 제한이 없으므로 항상 모든 원소를 넣는다.
+     *
+     * @param batch 추가할 원소들
+     * @param from 삽입을 시작할 위치
+     * @param to 삽입을 끝낼 위치(포함하지 않음)
+     * @return 삽입한 원소의 수
+     * @throws IndexOutOfBoundsException 범위가 배열을 벗어난 경우
+     * @throws NullPointerException 범위에 null 원소가 있는 경우, 이때는 아무것도 넣지 않음
+     */
+    @Override
+    public int offerAll(E[] batch, int from, int to) {
+        if (from < 0 || to > batch.length || from > to)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Length: " + batch.length + ", From: " + from + ", To: " + to
+                );
+        final int n = to - from;
+        for (int i = from; i < to; i++)
+            Objects.requireNonNull(batch[i]);
+        ensureRoom(n);
+        final Object[] a = elements;
+        final int t = tail;
+        final int right = Math.min(n, a.length - t);
+        System.arraycopy(batch, from, a, t, right);
+        System.arraycopy(batch, from + right, a, 0, n - right);
+        tail = (t + n) & (a.length - 1);
+        return n;
+    }
+
+    @Override
+    public E removeFirst() {
+        E x = pollFirst();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E removeLast() {
+        E x = pollLast();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    // *** 조회 ***
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E peekFirst() {
+        return (E) elements[head];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E peekLast() {
+        final Object[] a = elements;
+        return (E) a[(tail - 1) & (a.length - 1)];
+    }
+
+    @Override
+    public E getFirst() {
+        E x = peekFirst();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E getLast() {
+        E x = peekLast();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    // *** 중간 원소 삭제 ***
+
+    /**
+     * i번 칸의 원소를 지우고 앞쪽과 뒤쪽 중 원소가 적은 쪽을 한 칸 당겨서 빈 칸을 메움
+     * @param i 지울 칸의 위치
+     * @return 뒤쪽 원소를 앞으로 당겼으면 {@code true}, 앞쪽 원소를 뒤로 밀었으면 {@code false}
+     */
+    boolean delete(int i) {
+        final Object[] a = elements;
+        final int mask = a.length - 1;
+        final int h = head;
+        final int t = tail;
+        final int front = (i - h) & mask;
+        final int back = (t - i) & mask;
+
+        // 반복 중에 다른 곳에서 데크를 수정해서 i가 범위 밖인 경우
+        if (front >= ((t - h) & mask))
+            throw new ConcurrentModificationException();
+
+        if (front < back) {
+            // head부터 i 앞까지를 한 칸 뒤로 밂
+            if (h <= i) {
+                System.arraycopy(a, h, a, h + 1, front);
+            } else {
+                System.arraycopy(a, 0, a, 1, i);
+                a[0] = a[mask];
+                System.arraycopy(a, h, a, h + 1, mask - h);
+            }
+            a[h] = null;
+            head = (h + 1) & mask;
+            return false;
+        } else {
+            // i 뒤부터 tail까지를 한 칸 앞으로 당김, tail 칸의 null도 함께 당겨져 마지막 칸이 비워짐
+            if (i < t) {
+                System.arraycopy(a, i + 1, a, i, back);
+                tail = t - 1;
+            } else {
+                System.arraycopy(a, i + 1, a, i, mask - i);
+                a[mask] = a[0];
+                System.arraycopy(a, 1, a, 0, t);
+                tail = (t - 1) & mask;
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        if (o == null)
+            return false;
+        final Object[] a = elements;
+        final int mask = a.length - 1;
+        Object x;
+        for (int i = head; (x = a[i]) != null; i = (i + 1) & mask) {
+            if (o.equals(x)) {
+                delete(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (o == null)
+            return false;
+        final Object[] a = elements;
+        final int mask = a.length - 1;
+        Object x;
+        for (int i = (tail - 1) & mask; (x = a[i]) != null; i = (i - 1) & mask) {
+            if (o.equals(x)) {
+                delete(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    // *** 컬렉션 메소드 ***
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null)
+            return false;
+        final Object[] a = elements;
+        final int mask = a.length - 1;
+        Object x;
+        for (int i = head; (x = a[i]) != null; i = (i + 1) & mask)
+            if (o.equals(x))
+                return true;
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return (tail - head) & (elements.length - 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    // 데크의 원소를 모두 지움, 배열의 크기는 그대로 둠
+    @Override
+    public void clear() {
+        final int h = head;
+        final int t = tail;
+        if (h != t) {
+            head = tail = 0;
+            final Object[] a = elements;
+            if (h < t) {
+                Arrays.fill(a, h, t, null);
+            } else {
+                Arrays.fill(a, h, a.length, null);
+                Arrays.fill(a, 0, t, null);
+            }
+        }
+    }
+
+    // 감싸진 두 구간을 이어서 복사함
+    @Override
+    public Object[] toArray() {
+        final Object[] a = elements;
+        final int h = head;
+        final int t = tail;
+        if (h <= t)
+            return Arrays.copyOfRange(a, h, t);
+        final Object[] result = new Object[size()];
+        final int right = a.length - h;
+        System.arraycopy(a, h, result, 0, right);
+        System.arraycopy(a, 0, result, right, t);
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new DeqIterator();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingIterator();
+    }
+
+    // head부터 tail 방향으로 도는 반복자
+    private class DeqIterator implements Iterator<E> {
+        // 다음에 반환할 칸
+        private int cursor = head;
+
+        // 반복을 끝낼 칸, 반복 중에 tail이 바뀌면 다른 곳에서 수정한 것
+        private int fence = tail;
+
+        // 마지막으로 반환한 칸, remove로 지울 칸
+        private int lastRet = -1;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != fence;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (cursor == fence)
+                throw new NoSuchElementException();
+            final Object[] a = elements;
+            E result = (E) a[cursor];
+            if (tail != fence || result == null)
+                throw new ConcurrentModificationException();
+            lastRet = cursor;
+            cursor = (cursor + 1) & (a.length - 1);
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            // 뒤쪽을 당겼으면 다음 원소가 방금 지운 칸으로 왔으므로 커서를 되돌림
+            if (delete(lastRet)) {
+                cursor = (cursor - 1) & (elements.length - 1);
+                fence = tail;
+            }
+            lastRet = -1;
+        }
+    }
+
+    // tail부터 head 방향으로 도는 반복자
+    private class DescendingIterator implements Iterator<E> {
+        private int cursor = tail;
+        private int fence = head;
+        private int lastRet = -1;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != fence;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (cursor == fence)
+                throw new NoSuchElementException();
+            final Object[] a = elements;
+            cursor = (cursor - 1) & (a.length - 1);
+            E result = (E) a[cursor];
+            if (head != fence || result == null)
+                throw new ConcurrentModificationException();
+            lastRet = cursor;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            // 앞쪽을 밀었으면 다음 원소가 한 칸 뒤로 갔으므로 커서를 따라 옮김
+            if (!delete(lastRet)) {
+                cursor = (cursor + 1) & (elements.length - 1);
+                fence = head;
+            }
+            lastRet = -1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ArrayDeque<E> clone() {
+        try {
+            ArrayDeque<E> result = (ArrayDeque<E>) super.clone();
+            result.elements = Arrays.copyOf(elements, elements.length);
+            return result;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+}
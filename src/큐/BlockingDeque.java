@@ -0,0 +1,91 @@
+package 큐;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 양쪽 끝 모두에서 기다릴 수 있는 데크
+ * {@link BlockingQueue}의 연산은 뒤에 넣고 앞에서 꺼내는 것으로 정의된다.
+ * (put = putLast, take = takeFirst)
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public interface BlockingDeque<E> extends BlockingQueue<E>, Deque<E> {
+
+    /**
+     * 자리가 생길 때까지 기다렸다가 원소를 데크의 앞에 삽입한다.
+     *
+     * @param e 추가할 원소
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     * @throws NullPointerException null 원소를 삽입할 경우
+     */
+    void putFirst(E e) throws InterruptedException;
+
+    /**
+     * 자리가 생길 때까지 기다렸다가 원소를 데크의 뒤에 삽입한다.
+     *
+     * @param e 추가할 원소
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     * @throws NullPointerException null 원소를 삽입할 경우
+     */
+    void putLast(E e) throws InterruptedException;
+
+    /**
+     * 자리가 생길 때까지 최대 timeout만큼 기다렸다가 원소를 데크의 앞에 삽입한다.
+     *
+     * @param e 추가할 원소
+     * @param timeout 기다릴 최대 시간
+     * @param unit timeout의 단위
+     * @return 삽입했으면 {@code true}, 시간 안에 자리가 생기지 않으면 {@code false}
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     * @throws NullPointerException null 원소를 삽입할 경우
+     */
+    boolean offerFirst(E e, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 자리가 생길 때까지 최대 timeout만큼 기다렸다가 원소를 데크의 뒤에 삽입한다.
+     *
+     * @param e 추가할 원소
+     * @param timeout 기다릴 최대 시간
+     * @param unit timeout의 단위
+     * @return 삽입했으면 {@code true}, 시간 안에 자리가 생기지 않으면 {@code false}
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     * @throws NullPointerException null 원소를 삽입할 경우
+     */
+    boolean offerLast(E e, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 원소가 들어올 때까지 기다렸다가 데크의 맨 앞 원소를 삭제하고 반환한다.
+     *
+     * @return 데크의 맨 앞 원소
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     */
+    E takeFirst() throws InterruptedException;
+
+    /**
+     * 원소가 들어올 때까지 기다렸다가 데크의 맨 뒤 원소를 삭제하고 반환한다.
+     *
+     * @return 데크의 맨 뒤 원소
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     */
+    E takeLast() throws InterruptedException;
+
+    /**
+     * 원소가 들어올 때까지 최대 timeout만큼 기다렸다가 데크의 맨 앞 원소를 삭제하고 반환한다.
+     *
+     * @param timeout 기다릴 최대 시간
+     * @param unit timeout의 단위
+     * @return 데크의 맨 앞 원소, 시간 안에 원소가 들어오지 않으면 {@code null}
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     */
+    E pollFirst(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 원소가 들어올 때까지 최대 timeout만큼 기다렸다가 데크의 맨 뒤 원소를 삭제하고 반환한다.
+     *
+     * @param timeout 기다릴 최대 시간
+     * @param unit timeout의 단위
+     * @return 데크의 맨 뒤 원소, 시간 안에 원소가 들어오지 않으면 {@code null}
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     */
+    E pollLast(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,98 @@
+package 큐;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원소를 꺼낼 때 큐가 비어있거나, 넣을 때 큐가 가득 차 있으면 기다릴 수 있는 큐
+ * {@link Queue#poll}을 반복해서 호출하며 바쁘게 기다리는 대신
+ * {@link #take}로 원소가 들어올 때까지 스레드를 재워둘 수 있다.
+ *
+ * 이 패키지의 구현은 synchronized 대신 {@link java.util.concurrent.locks.ReentrantLock}과
+ * {@link java.util.concurrent.locks.Condition}으로 기다린다.
+ * synchronized 블록 안에서 기다리는 가상 스레드(Java 21)는 캐리어 스레드를 붙잡아두지만(pinning),
+ * Condition으로 기다리는 가상 스레드는 캐리어 스레드를 놓아주므로 수천 개가 동시에 기다려도 된다.
+ *
+ * 연산은 네 가지 형태로 제공된다.
+ * <pre>
+ *          예외를 던짐     특별한 값을 반환    기다림      시간 제한으로 기다림
+ * 삽입      add(e)         offer(e)          put(e)     offer(e, time, unit)
+ * 삭제      remove()       poll()            take()     poll(time, unit)
+ * 조회      element()      peek()            -          -
+ * </pre>
+ *
+ * {@code null} 원소는 허용하지 않는다. {@code null}은 poll이 실패했음을 나타내는 값이다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public interface BlockingQueue<E> extends Queue<E> {
+
+    /**
+     * 자리가 생길 때까지 기다렸다가 원소를 큐에 삽입한다.
+     *
+     * @param e 추가할 원소
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     * @throws NullPointerException null 원소를 삽입할 경우
+     */
+    void put(E e) throws InterruptedException;
+
+    /**
+     * 자리가 생길 때까지 최대 timeout만큼 기다렸다가 원소를 큐에 삽입한다.
+     *
+     * @param e 추가할 원소
+     * @param timeout 기다릴 최대 시간
+     * @param unit timeout의 단위
+     * @return 삽입했으면 {@code true}, 시간 안에 자리가 생기지 않으면 {@code false}
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     * @throws NullPointerException null 원소를 삽입할 경우
+     */
+    boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 원소가 들어올 때까지 기다렸다가 큐의 head 원소를 삭제하고 반환한다.
+     *
+     * @return 큐의 head 원소
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     */
+    E take() throws InterruptedException;
+
+    /**
+     * 원소가 들어올 때까지 최대 timeout만큼 기다렸다가 큐의 head 원소를 삭제하고 반환한다.
+     *
+     * @param timeout 기다릴 최대 시간
+     * @param unit timeout의 단위
+     * @return 큐의 head 원소, 시간 안에 원소가 들어오지 않으면 {@code null}
+     * @throws InterruptedException 기다리는 중에 인터럽트된 경우
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 기다리지 않고 더 넣을 수 있는 원소의 수를 반환한다.
+     * 용량 제한이 없으면 {@code Integer.MAX_VALUE}를 반환한다.
+     *
+     * @return 남은 용량
+     */
+    int remainingCapacity();
+
+    /**
+     * 큐의 모든 원소를 꺼내서 컬렉션에 추가한다.
+     * poll을 반복하는 것과 같지만 잠금을 한 번만 잡는다.
+     *
+     * @param c 원소를 옮겨 담을 컬렉션
+     * @return 옮긴 원소의 수
+     * @throws IllegalArgumentException c가 이 큐인 경우
+     * @throws NullPointerException c가 null인 경우
+     */
+    int drainTo(Collection<? super E> c);
+
+    /**
+     * 큐에서 최대 maxElements개의 원소를 꺼내서 컬렉션에 추가한다.
+     *
+     * @param c 원소를 옮겨 담을 컬렉션
+     * @param maxElements 옮길 최대 원소 수
+     * @return 옮긴 원소의 수
+     * @throws IllegalArgumentException c가 이 큐이거나 maxElements가 음수인 경우
+     * @throws NullPointerException c가 null인 경우
+     */
+    int drainTo(Collection<? super E> c, int maxElements);
+}
@@ -0,0 +1,64 @@
+package 큐;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class BlockingQueue테스트 {
+    public static void main(String[] args) throws InterruptedException {
+        BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(3);
+
+        // 가득 차면 put이 기다리고, 소비자가 take하면 깨어남
+        Thread consumer = new Thread(() -> {
+            try {
+                long sum = 0;
+                for (int i = 1; i <= 100; i++)
+                    sum += queue.take();
+                System.out.println("소비자 합: " + sum);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        for (int i = 1; i <= 100; i++)
+            queue.put(i);
+        consumer.join();
+
+        // 시간 제한으로 기다림
+        System.out.println(queue.poll(10, TimeUnit.MILLISECONDS));
+        for (int i = 1; i <= 3; i++)
+            queue.offer(i);
+        System.out.println(queue.offer(4, 10, TimeUnit.MILLISECONDS) + " " + queue + " " + queue.remainingCapacity());
+
+        queue.remove(2);
+        System.out.println(queue);
+        List<Integer> drained = new ArrayList<>();
+        System.out.println(queue.drainTo(drained) + " " + drained + " " + queue.isEmpty());
+
+        // 양쪽 끝에서 기다리는 데크
+        BlockingDeque<String> deque = new LinkedBlockingDeque<>(4);
+        deque.putFirst("b");
+        deque.putFirst("a");
+        deque.putLast("c");
+        deque.offerLast("d", 10, TimeUnit.MILLISECONDS);
+        System.out.println(deque + " " + deque.offerFirst("z", 10, TimeUnit.MILLISECONDS));
+        System.out.println(deque.takeLast() + " " + deque.takeFirst() + " " + deque);
+
+        Thread late = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+                deque.putLast("늦게 온 원소");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        deque.clear();
+        late.start();
+        System.out.println(deque.pollFirst(1, TimeUnit.SECONDS));
+        late.join();
+
+        List<String> taken = new ArrayList<>();
+        deque.addAll(List.of("1", "2", "3", "4"));
+        System.out.println(deque.drainTo(taken, 2) + " " + taken + " " + deque);
+    }
+}
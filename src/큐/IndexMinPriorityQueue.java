@@ -0,0 +1,336 @@
+package 큐;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 0부터 capacity-1까지의 int id에 double 우선순위를 붙여 담는 d진 최소 힙
+ * 다익스트라나 A*처럼 이미 큐에 있는 정점의 거리를 줄여야 할 때, 새 항목을 또 넣고 꺼낼 때 버리는 방식은
+ * 큐에 간선 수만큼의 항목이 쌓인다. 이 클래스는 id마다 힙 안의 위치를 기억해 두었다가
+ * 그 자리에서 바로 위로 올리므로 큐에는 id당 항목이 하나만 있고, 모든 연산이 O(log n)이다.
+ *
+ * 세 배열을 나란히 사용하며 항목마다 객체를 만들지 않는다.
+ * <pre>
+ * heap[i]  : 힙의 i번 칸에 있는 id
+ * pos[id]  : id가 있는 힙의 칸, 큐에 없으면 -1
+ * keys[id] : id의 우선순위
+ * </pre>
+ *
+ * 우선순위가 같은 id끼리의 순서는 보장하지 않는다. 우선순위로 {@code NaN}은 허용하지 않는다.
+ */
+public class IndexMinPriorityQueue {
+
+    // 힙의 칸 -> id
+    private final int[] heap;
+
+    // id -> 힙의 칸, 큐에 없으면 -1
+    private final int[] pos;
+
+    // id -> 우선순위
+    private final double[] keys;
+
+    // 큐에 있는 id의 수
+    private int size;
+
+    // 한 노드의 자식 수를 log2로 나타낸 값, 자식 수 = 1 << shift
+    private final int shift;
+
+    /**
+     * @param capacity 담을 수 있는 id의 수, id는 0부터 capacity-1까지
+     * @param arity 한 노드의 자식 수, 2 이상의 2의 거듭제곱
+     * @throws IllegalArgumentException capacity가 음수이거나 arity가 2 이상의 2의 거듭제곱이 아닌 경우
+     */
+    public IndexMinPriorityQueue(int capacity, int arity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + capacity);
+        if (arity < 2 || (arity & (arity - 1)) != 0)
+            throw new IllegalArgumentException("자식 수는 2 이상의 2의 거듭제곱이어야 합니다: " + arity);
+        this.shift = Integer.numberOfTrailingZeros(arity);
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public IndexMinPriorityQueue(int capacity) {
+        this(capacity, PriorityQueue.DEFAULT_ARITY);
+    }
+
+    // id의 범위를 검사함
+    private void checkId(int id) {
+        if (id < 0 || id >= pos.length)
+            throw new IndexOutOfBoundsException(
+                "인덱스 위치 밖입니다. Capacity: " + pos.length + ", Index: " + id
+                );
+    }
+
+    // 큐에 있는 id인지 검사함
+    private void checkContains(int id) {
+        checkId(id);
+        if (pos[id] < 0)
+            throw new NoSuchElementException("큐에 없는 id입니다: " + id);
+    }
+
+    private static void checkKey(double key) {
+        if (Double.isNaN(key))
+            throw new IllegalArgumentException("우선순위는 NaN일 수 없습니다.");
+    }
+
+    // *** 힙 연산 ***
+
+    // k번 칸의 id를 부모보다 작은 동안 위로 올림
+    private void siftUp(int k) {
+        final int[] h = heap;
+        final int[] p = pos;
+        final double[] ks = keys;
+        final int shift = this.shift;
+        final int id = h[k];
+        final double key = ks[id];
+        while (k > 0) {
+            int parent = (k - 1) >>> shift;
+            int pid = h[parent];
+            if (key >= ks[pid])
+                break;
+            h[k] = pid;
+            p[pid] = k;
+            k = parent;
+        }
+        h[k] = id;
+        p[id] = k;
+    }
+
+    // k번 칸의 id를 가장 작은 자식보다 큰 동안 아래로 내림
+    private void siftDown(int k) {
+        final int[] h = heap;
+        final int[] p = pos;
+        final double[] ks = keys;
+        final int n = size;
+        final int shift = this.shift;
+        final int d = 1 << shift;
+        final int id = h[k];
+        final double key = ks[id];
+        // 자식이 있는 마지막 칸, k가 이 값 이하일 때만 자식의 위치를 계산하므로 int 범위를 넘지 않음
+        final int lastParent = (n - 2) >> shift;
+        while (k <= lastParent) {
+            int child = (k << shift) + 1;
+            final int end = (n - child > d) ? child + d : n;
+            int cid = h[child];
+            double min = ks[cid];
+            for (int c = child + 1; c < end; c++) {
+                int other = h[c];
+                if (ks[other] < min) {
+                    min = ks[other];
+                    cid = other;
+                    child = c;
+                }
+            }
+            if (key <= min)
+                break;
+            h[k] = cid;
+            p[cid] = k;
+            k = child;
+        }
+        h[k] = id;
+        p[id] = k;
+    }
+
+    // *** 삽입, 우선순위 변경 ***
+
+    /**
+     * id를 우선순위와 함께 삽입한다.
+     *
+     * @param id 추가할 id
+     * @param key 우선순위, 작을수록 먼저 꺼냄
+     * @throws IndexOutOfBoundsException id가 범위 밖인 경우
+     * @throws IllegalArgumentException id가 이미 큐에 있거나 key가 NaN인 경우
+     */
+    public void insert(int id, double key) {
+        checkId(id);
+        checkKey(key);
+        if (pos[id] >= 0)
+            throw new IllegalArgumentException("이미 큐에 있는 id입니다: " + id);
+        final int s = size++;
+        keys[id] = key;
+        heap[s] = id;
+        pos[id] = s;
+        siftUp(s);
+    }
+
+    /**
+     * id의 우선순위를 key로 줄인다.
+     *
+     * @throws IndexOutOfBoundsException id가 범위 밖인 경우
+     * @throws NoSuchElementException id가 큐에 없는 경우
+     * @throws IllegalArgumentException key가 현재 우선순위보다 크거나 NaN인 경우
+     */
+    public void decreaseKey(int id, double key) {
+        checkContains(id);
+        checkKey(key);
+        if (key > keys[id])
+            throw new IllegalArgumentException(
+                "현재 우선순위보다 큽니다. Key: " + keys[id] + ", New: " + key
+                );
+        keys[id] = key;
+        siftUp(pos[id]);
+    }
+
+    /**
+     * id의 우선순위를 key로 늘린다.
+     *
+     * @throws IndexOutOfBoundsException id가 범위 밖인 경우
+     * @throws NoSuchElementException id가 큐에 없는 경우
+     * @throws IllegalArgumentException key가 현재 우선순위보다 작거나 NaN인 경우
+     */
+    public void increaseKey(int id, double key) {
+        checkContains(id);
+        checkKey(key);
+        if (key < keys[id])
+            throw new IllegalArgumentException(
+                "현재 우선순위보다 작습니다. Key: " + keys[id] + ", New: " + key
+                );
+        keys[id] = key;
+        siftDown(pos[id]);
+    }
+
+    /**
+     * 큐에 없으면 삽입하고, 있으면 key가 더 작을 때만 우선순위를 줄인다.
+     * 다익스트라의 간선 완화(relax)에서 사용한다.
+     *
+     * @return 삽입했거나 우선순위를 줄였으면 {@code true}
+     * @throws IndexOutOfBoundsException id가 범위 밖인 경우
+     * @throws IllegalArgumentException key가 NaN인 경우
+     */
+    public boolean offerOrDecrease(int id, double key) {
+        checkId(id);
+        checkKey(key);
+        if (pos[id] < 0) {
+            insert(id, key);
+            return true;
+        }
+        if (key < keys[id]) {
+            keys[id] = key;
+            siftUp(pos[id]);
+            return true;
+        }
+        return false;
+    }
+
+    // *** 삭제 ***
+
+    /**
+     * 우선순위가 가장 작은 id를 삭제하고 반환한다.
+     *
+     * @return 우선순위가 가장 작은 id
+     * @throws NoSuchElementException 큐가 비어있을 경우
+     */
+    public int pollMin() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        final int min = heap[0];
+        removeAt(0);
+        return min;
+    }
+
+    /**
+     * id를 큐에서 삭제한다.
+     *
+     * @return 큐에 있어서 삭제했으면 {@code true}
+     * @throws IndexOutOfBoundsException id가 범위 밖인 경우
+     */
+    public boolean remove(int id) {
+        checkId(id);
+        final int i = pos[id];
+        if (i < 0)
+            return false;
+        removeAt(i);
+        return true;
+    }
+
+    // i번 칸을 지우고 마지막 칸의 id로 채운 뒤 위나 아래로 옮김
+    private void removeAt(int i) {
+        final int removed = heap[i];
+        final int s = --size;
+        pos[removed] = -1;
+        if (s == i)
+            return;
+        final int moved = heap[s];
+        heap[i] = moved;
+        pos[moved] = i;
+        siftDown(i);
+        if (pos[moved] == i)
+            siftUp(i);
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    // *** 조회 ***
+
+    /**
+     * @throws IndexOutOfBoundsException id가 범위 밖인 경우
+     */
+    public boolean contains(int id) {
+        checkId(id);
+        return pos[id] >= 0;
+    }
+
+    /**
+     * @return 우선순위가 가장 작은 id
+     * @throws NoSuchElementException 큐가 비어있을 경우
+     */
+    public int peekMin() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return heap[0];
+    }
+
+    /**
+     * @return 가장 작은 우선순위
+     * @throws NoSuchElementException 큐가 비어있을 경우
+     */
+    public double minKey() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return keys[heap[0]];
+    }
+
+    /**
+     * @return id의 우선순위
+     * @throws IndexOutOfBoundsException id가 범위 밖인 경우
+     * @throws NoSuchElementException id가 큐에 없는 경우
+     */
+    public double keyOf(int id) {
+        checkContains(id);
+        return keys[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return 담을 수 있는 id의 수
+     */
+    public int capacity() {
+        return pos.length;
+    }
+
+    // 힙의 배열 순서대로 "id=우선순위"를 출력
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(heap[i]).append('=').append(keys[heap[i]]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,33 @@
+package 큐;
+
+import java.util.NoSuchElementException;
+
+public class IndexMinPriorityQueue테스트 {
+    public static void main(String[] args) {
+        IndexMinPriorityQueue pq = new IndexMinPriorityQueue(6);
+        pq.insert(0, 5.0);
+        pq.insert(3, 2.5);
+        pq.insert(5, 9.0);
+        pq.insert(1, 4.0);
+        System.out.println(pq);
+        System.out.println(pq.size() + " " + pq.peekMin() + " " + pq.minKey());
+
+        pq.decreaseKey(5, 1.0);
+        pq.increaseKey(3, 7.0);
+        System.out.println(pq.peekMin() + " " + pq.keyOf(3) + " " + pq.contains(2));
+
+        System.out.println(pq.offerOrDecrease(2, 3.0) + " " + pq.offerOrDecrease(0, 6.0) + " " + pq.offerOrDecrease(0, 0.5));
+        pq.remove(1);
+
+        StringBuilder order = new StringBuilder();
+        while (!pq.isEmpty())
+            order.append(pq.pollMin()).append(' ');
+        System.out.println(order);
+
+        try {
+            pq.decreaseKey(0, 1.0);
+        } catch (NoSuchElementException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+}
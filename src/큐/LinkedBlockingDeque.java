@@ -0,0 +1,677 @@
+package 큐;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이중 연결 노드로 구현한 {@link BlockingDeque}
+ * 용량을 지정하지 않으면 {@code Integer.MAX_VALUE}까지 담을 수 있어서 사실상 넣을 때 기다리지 않는다.
+ * 잠금 하나로 모든 연산을 보호하고, 비었을 때와 가득 찼을 때 기다리는 {@link Condition}을 따로 둔다.
+ *
+ * 반복자는 만든 시점의 원소를 복사해서 보여주므로 반복 중에 데크가 바뀌어도 예외를 던지지 않는다.
+ * {@code null} 원소는 허용하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class LinkedBlockingDeque<E> extends AbstractCollection<E> implements BlockingDeque<E> {
+
+    private static final class Node<E> {
+        E item;
+        Node<E> prev;
+        Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    // 맨 앞 노드
+    private Node<E> first;
+
+    // 맨 뒤 노드
+    private Node<E> last;
+
+    // 원소의 수
+    private int count;
+
+    // 담을 수 있는 최대 원소 수
+    private final int capacity;
+
+    // 모든 연산을 보호하는 잠금
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 원소가 들어오기를 기다리는 조건
+    private final Condition notEmpty = lock.newCondition();
+
+    // 자리가 생기기를 기다리는 조건
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * @param capacity 담을 수 있는 최대 원소 수
+     * @throws IllegalArgumentException capacity가 1보다 작은 경우
+     */
+    public LinkedBlockingDeque(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("용량은 1 이상이어야 합니다: " + capacity);
+        this.capacity = capacity;
+    }
+
+    public LinkedBlockingDeque() {
+        this(Integer.MAX_VALUE);
+    }
+
+    // *** 잠금을 잡은 상태에서만 호출하는 연결/분리 메소드 ***
+
+    // 맨 앞에 연결함, 가득 찼으면 false
+    private boolean linkFirst(Node<E> node) {
+        if (count >= capacity)
+            return false;
+        final Node<E> f = first;
+        node.next = f;
+        first = node;
+        if (f == null)
+            last = node;
+        else
+            f.prev = node;
+        count++;
+        notEmpty.signal();
+        return true;
+    }
+
+    // 맨 뒤에 연결함, 가득 찼으면 false
+    private boolean linkLast(Node<E> node) {
+        if (count >= capacity)
+            return false;
+        final Node<E> l = last;
+        node.prev = l;
+        last = node;
+        if (l == null)
+            first = node;
+        else
+            l.next = node;
+        count++;
+        notEmpty.signal();
+        return true;
+    }
+
+    // 맨 앞 노드를 분리하고 값을 반환함, 비었으면 null
+    private E unlinkFirst() {
+        final Node<E> f = first;
+        if (f == null)
+            return null;
+        final Node<E> n = f.next;
+        final E item = f.item;
+        f.item = null;
+        f.next = null;
+        first = n;
+        if (n == null)
+            last = null;
+        else
+            n.prev = null;
+        count--;
+        notFull.signal();
+        return item;
+    }
+
+    // 맨 뒤 노드를 분리하고 값을 반환함, 비었으면 null
+    private E unlinkLast() {
+        final Node<E> l = last;
+        if (l == null)
+            return null;
+        final Node<E> p = l.prev;
+        final E item = l.item;
+        l.item = null;
+        l.prev = null;
+        last = p;
+        if (p == null)
+            first = null;
+        else
+            p.next = null;
+        count--;
+        notFull.signal();
+        return item;
+    }
+
+    // 중간 노드를 분리함
+    private void unlink(Node<E> x) {
+        final Node<E> p = x.prev;
+        final Node<E> n = x.next;
+        if (p == null) {
+            unlinkFirst();
+        } else if (n == null) {
+            unlinkLast();
+        } else {
+            p.next = n;
+            n.prev = p;
+            x.item = null;
+            x.prev = x.next = null;
+            count--;
+            notFull.signal();
+        }
+    }
+
+    // *** 삽입 ***
+
+    @Override
+    public boolean offerFirst(E e) {
+        final Node<E> node = new Node<>(Objects.requireNonNull(e));
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return linkFirst(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        final Node<E> node = new Node<>(Objects.requireNonNull(e));
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return linkLast(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void addFirst(E e) {
+        if (!offerFirst(e))
+            throw new IllegalStateException("데크가 가득 찼습니다. Capacity: " + capacity);
+    }
+
+    @Override
+    public void addLast(E e) {
+        if (!offerLast(e))
+            throw new IllegalStateException("데크가 가득 찼습니다. Capacity: " + capacity);
+    }
+
+    @Override
+    public void putFirst(E e) throws InterruptedException {
+        final Node<E> node = new Node<>(Objects.requireNonNull(e));
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkFirst(node))
+                notFull.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putLast(E e) throws InterruptedException {
+        final Node<E> node = new Node<>(Objects.requireNonNull(e));
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkLast(node))
+                notFull.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offerFirst(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        final Node<E> node = new Node<>(Objects.requireNonNull(e));
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkFirst(node)) {
+                if (nanos <= 0L)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offerLast(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        final Node<E> node = new Node<>(Objects.requireNonNull(e));
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            while (!linkLast(node)) {
+                if (nanos <= 0L)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // *** 삭제 ***
+
+    @Override
+    public E pollFirst() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return unlinkFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E pollLast() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return unlinkLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        E x = pollFirst();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E removeLast() {
+        E x = pollLast();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E takeFirst() throws InterruptedException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkFirst()) == null)
+                notEmpty.await();
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E takeLast() throws InterruptedException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkLast()) == null)
+                notEmpty.await();
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkFirst()) == null) {
+                if (nanos <= 0L)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            E x;
+            while ((x = unlinkLast()) == null) {
+                if (nanos <= 0L)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return x;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // *** 조회 ***
+
+    @Override
+    public E peekFirst() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return (first == null) ? null : first.item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peekLast() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return (last == null) ? null : last.item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E getFirst() {
+        E x = peekFirst();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E getLast() {
+        E x = peekLast();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    // *** 중간 원소 삭제 ***
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        if (o == null)
+            return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (Node<E> x = first; x != null; x = x.next) {
+                if (o.equals(x.item)) {
+                    unlink(x);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (o == null)
+            return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (Node<E> x = last; x != null; x = x.prev) {
+                if (o.equals(x.item)) {
+                    unlink(x);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 같은 인스턴스를 앞에서부터 찾아 지움, 반복자의 remove에서 사용
+    private void removeFirstEq(Object o) {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (Node<E> x = first; x != null; x = x.next) {
+                if (x.item == o) {
+                    unlink(x);
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 같은 인스턴스를 뒤에서부터 찾아 지움, 역순 반복자의 remove에서 사용
+    private void removeLastEq(Object o) {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (Node<E> x = last; x != null; x = x.prev) {
+                if (x.item == o) {
+                    unlink(x);
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // *** 큐 메소드, 뒤에 넣고 앞에서 꺼냄 ***
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        putLast(e);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        return offerLast(e, timeout, unit);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return takeFirst();
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return pollFirst(timeout, unit);
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    // *** 스택 메소드 ***
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    // *** 컬렉션 메소드 ***
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null)
+            return false;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (Node<E> x = first; x != null; x = x.next)
+                if (o.equals(x.item))
+                    return true;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 데크를 비우고 기다리던 생산자를 모두 깨움
+    @Override
+    public void clear() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (Node<E> x = first; x != null; ) {
+                final Node<E> next = x.next;
+                x.item = null;
+                x.prev = x.next = null;
+                x = next;
+            }
+            first = last = null;
+            count = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this)
+            throw new IllegalArgumentException("자기 자신에게 옮길 수 없습니다.");
+        if (maxElements < 0)
+            throw new IllegalArgumentException("꺼낼 개수는 음수일 수 없습니다: " + maxElements);
+        if (maxElements == 0)
+            return 0;
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            final int n = Math.min(maxElements, count);
+            for (int i = 0; i < n; i++) {
+                // 컬렉션에 먼저 넣고 성공한 뒤에 분리함
+                c.add(first.item);
+                unlinkFirst();
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 앞에서부터 차례로 복사함
+    @Override
+    public Object[] toArray() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            final Object[] result = new Object[count];
+            int i = 0;
+            for (Node<E> x = first; x != null; x = x.next)
+                result[i++] = x.item;
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만든 시점의 원소를 복사해서 앞에서부터 도는 반복자를 반환함
+     * 반복 중에 데크가 바뀌어도 예외를 던지지 않고, remove는 반환한 인스턴스가 아직 데크에 있으면 지움
+     *
+     * @return 데크의 원소에 대한 Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayBlockingQueue.SnapshotIterator<>(this::removeFirstEq, toArray());
+    }
+
+    /**
+     * 만든 시점의 원소를 복사해서 뒤에서부터 도는 반복자를 반환함
+     * remove는 뒤에서부터 찾아서 처음 만나는 같은 인스턴스를 지움
+     *
+     * @return 데크의 원소에 대한 역순 Iterator
+     */
+    @Override
+    public Iterator<E> descendingIterator() {
+        final Object[] snapshot = toArray();
+        for (int i = 0, j = snapshot.length - 1; i < j; i++, j--) {
+            final Object tmp = snapshot[i];
+            snapshot[i] = snapshot[j];
+            snapshot[j] = tmp;
+        }
+        return new ArrayBlockingQueue.SnapshotIterator<>(this::removeLastEq, snapshot);
+    }
+}
@@ -0,0 +1,229 @@
+package 큐;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import 배열리스트.GrowthPolicy;
+
+/**
+ * long 우선순위와 값을 함께 담는 d진 힙 우선순위 큐
+ * {@link PriorityQueue}는 비교할 때마다 compareTo나 Comparator를 호출하고 우선순위를 원소 객체 안에서 꺼내야 하지만,
+ * 이 클래스는 우선순위를 long[]에 따로 담아 두 long을 바로 비교한다.
+ * 우선순위와 값은 같은 인덱스의 long[], Object[] 두 배열에 나란히 담으므로 원소마다 노드 객체를 만들지 않는다.
+ *
+ * 예약 작업처럼 실행 시각을 우선순위로 쓰는 경우, 우선순위가 작은 값부터 꺼낸다.
+ * 우선순위가 같은 값끼리의 순서는 보장하지 않는다.
+ * {@code null} 값은 허용하지 않는다.
+ *
+ * @param <E> 우선순위와 함께 담을 값의 타입
+ */
+public class LongKeyPriorityQueue<E> {
+
+    // 기본 배열 크기
+    private static final int DEFAULT_CAPACITY = 11;
+
+    // 우선순위 배열, [0, size)가 힙
+    private long[] keys;
+
+    // 값 배열, values[i]의 우선순위가 keys[i]
+    private Object[] values;
+
+    // 원소의 수
+    private int size;
+
+    // 한 노드의 자식 수를 log2로 나타낸 값, 자식 수 = 1 << shift
+    private final int shift;
+
+    /**
+     * @param arity 한 노드의 자식 수, 2 이상의 2의 거듭제곱
+     * @param initialCapacity 다시 할당하지 않고 담을 수 있는 원소의 수
+     * @throws IllegalArgumentException arity가 2 이상의 2의 거듭제곱이 아니거나 initialCapacity가 음수인 경우
+     */
+    public LongKeyPriorityQueue(int arity, int initialCapacity) {
+        if (arity < 2 || (arity & (arity - 1)) != 0)
+            throw new IllegalArgumentException("자식 수는 2 이상의 2의 거듭제곱이어야 합니다: " + arity);
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + initialCapacity);
+        this.shift = Integer.numberOfTrailingZeros(arity);
+        this.keys = new long[initialCapacity];
+        this.values = new Object[initialCapacity];
+    }
+
+    public LongKeyPriorityQueue(int arity) {
+        this(arity, DEFAULT_CAPACITY);
+    }
+
+    public LongKeyPriorityQueue() {
+        this(PriorityQueue.DEFAULT_ARITY, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 우선순위와 값 배열로 O(n)에 힙을 만든다.
+     * 배열은 복사해서 사용하므로 이후에 바꿔도 큐에 영향이 없다.
+     *
+     * @param arity 한 노드의 자식 수, 2 이상의 2의 거듭제곱
+     * @param keys 우선순위
+     * @param values keys[i]를 우선순위로 하는 값
+     * @throws IllegalArgumentException 두 배열의 길이가 다른 경우
+     * @throws NullPointerException values에 null이 있는 경우
+     */
+    public LongKeyPriorityQueue(int arity, long[] keys, E[] values) {
+        this(arity, 0);
+        if (keys.length != values.length)
+            throw new IllegalArgumentException(
+                "우선순위와 값의 수가 다릅니다. Keys: " + keys.length + ", Values: " + values.length
+            );
+        for (E value : values)
+            Objects.requireNonNull(value);
+        this.keys = keys.clone();
+        this.values = Arrays.copyOf(values, values.length, Object[].class);
+        this.size = keys.length;
+        for (int i = (size - 2) >> shift; i >= 0; i--)
+            siftDown(i, this.keys[i], this.values[i]);
+    }
+
+    /**
+     * @return 한 노드의 자식 수
+     */
+    public int arity() {
+        return 1 << shift;
+    }
+
+    // 두 배열을 함께 키움
+    private void grow(int minCapacity) {
+        final int oldCapacity = keys.length;
+        final int newCapacity = (oldCapacity > 0)
+            ? Math.max(GrowthPolicy.DEFAULT.newCapacity(oldCapacity, minCapacity), minCapacity)
+            : Math.max(DEFAULT_CAPACITY, minCapacity);
+        keys = Arrays.copyOf(keys, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+    }
+
+    // k번 칸에 (key, value)를 놓고 부모보다 작은 동안 위로 올림
+    private void siftUp(int k, long key, Object value) {
+        final long[] ks = keys;
+        final Object[] vs = values;
+        final int shift = this.shift;
+        while (k > 0) {
+            int parent = (k - 1) >>> shift;
+            long p = ks[parent];
+            if (key >= p)
+                break;
+            ks[k] = p;
+            vs[k] = vs[parent];
+            k = parent;
+        }
+        ks[k] = key;
+        vs[k] = value;
+    }
+
+    // k번 칸에 (key, value)를 놓고 가장 작은 자식보다 큰 동안 아래로 내림
+    private void siftDown(int k, long key, Object value) {
+        final long[] ks = keys;
+        final Object[] vs = values;
+        final int n = size;
+        final int shift = this.shift;
+        final int d = 1 << shift;
+        // 자식이 있는 마지막 칸, k가 이 값 이하일 때만 자식의 위치를 계산하므로 int 범위를 넘지 않음
+        final int lastParent = (n - 2) >> shift;
+        while (k <= lastParent) {
+            int child = (k << shift) + 1;
+            final int end = (n - child > d) ? child + d : n;
+            long min = ks[child];
+            for (int c = child + 1; c < end; c++) {
+                if (ks[c] < min)
+                    min = ks[child = c];
+            }
+            if (key <= min)
+                break;
+            ks[k] = min;
+            vs[k] = vs[child];
+            k = child;
+        }
+        ks[k] = key;
+        vs[k] = value;
+    }
+
+    /**
+     * 값을 우선순위와 함께 삽입한다.
+     *
+     * @param key 우선순위, 작을수록 먼저 꺼냄
+     * @param value 추가할 값
+     * @throws NullPointerException value가 null인 경우
+     */
+    public void offer(long key, E value) {
+        Objects.requireNonNull(value);
+        final int s = size;
+        if (s == keys.length)
+            grow(s + 1);
+        siftUp(s, key, value);
+        size = s + 1;
+    }
+
+    /**
+     * 우선순위가 가장 작은 값을 삭제하고 반환한다.
+     *
+     * @return 우선순위가 가장 작은 값, 비어있으면 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        if (size == 0)
+            return null;
+        final Object[] vs = values;
+        final E result = (E) vs[0];
+        final int n = --size;
+        final long key = keys[n];
+        final Object value = vs[n];
+        vs[n] = null;
+        if (n > 0)
+            siftDown(0, key, value);
+        return result;
+    }
+
+    /**
+     * @return 우선순위가 가장 작은 값, 비어있으면 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        return (size == 0) ? null : (E) values[0];
+    }
+
+    /**
+     * poll하기 전에 head의 우선순위를 확인할 때 사용한다.
+     * (예: 실행 시각이 지금보다 이후면 꺼내지 않고 기다림)
+     *
+     * @return 가장 작은 우선순위
+     * @throws NoSuchElementException 큐가 비어있을 경우
+     */
+    public long peekKey() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        return keys[0];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    // 힙의 배열 순서대로 "우선순위=값"을 출력
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(keys[i]).append('=').append(values[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
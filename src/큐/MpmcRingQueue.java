@@ -0,0 +1,273 @@
+package 큐;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자와 여러 소비자가 잠금 없이 함께 쓰는 크기 제한 원형 큐 (Vyukov MPMC 큐)
+ *
+ * 칸마다 순번(sequence)을 하나씩 두고, 생산자와 소비자는 각자의 위치 카운터만 CAS로 올린다.
+ * 위치가 pos인 칸의 순번이
+ * <ul>
+ *     <li>pos이면 비어있어서 생산자가 쓸 수 있고,</li>
+ *     <li>pos + 1이면 값이 들어있어서 소비자가 가져갈 수 있고,</li>
+ *     <li>그 외에는 다른 스레드가 아직 그 칸을 쓰는 중이거나 한 바퀴 전/후의 칸이다.</li>
+ * </ul>
+ * 생산자는 위치를 차지한 뒤 값을 쓰고 순번을 pos + 1로, 소비자는 값을 가져간 뒤 순번을 pos + capacity로 바꾼다.
+ * 위치 카운터는 long이므로 넘칠 걱정은 없다.
+ *
+ * 가득 차면 {@link #offer}는 {@code false}를, 비어있으면 {@link #poll}은 {@code null}을 바로 반환하고 기다리지 않는다.
+ *
+ * 거짓 공유(false sharing)를 막기 위해 칸마다 순번과 원소를 각각 한 캐시 라인씩 차지하게 둔다.
+ * 순번은 {@value #SEQ_PAD}개의 long(64바이트) 간격, 원소 참조는 {@value #REF_PAD}개의 참조
+ * (압축 참조면 64바이트, 아니면 128바이트) 간격으로 떨어뜨리므로, 이웃한 칸을 쓰는 생산자와 소비자가
+ * 같은 캐시 라인을 두고 다투지 않는다. 생산자 위치와 소비자 위치도 서로 다른 캐시 라인에 둔다.
+ *
+ * 그 대신 칸 하나가 128~192바이트를 차지하므로 용량은 {@value #MAX_CAPACITY}칸까지로 제한한다.
+ * (최대 용량이면 약 128~192MB)
+ *
+ * {@code null} 원소는 허용하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class MpmcRingQueue<E> extends AbstractCollection<E> implements Queue<E> {
+
+    // 위치 카운터 사이의 간격(long의 개수), 64바이트 캐시 라인 두 개 간격으로 두어 인접 라인 프리페치까지 피함
+    static final int PAD = 16;
+
+    // 칸마다의 순번 사이의 간격(long의 개수), 64바이트 캐시 라인 하나
+    static final int SEQ_PAD = 8;
+
+    // 칸마다의 원소 참조 사이의 간격(참조의 개수), 참조가 4바이트든 8바이트든 한 캐시 라인 이상
+    static final int REF_PAD = 16;
+
+    // 최대 칸 수
+    static final int MAX_CAPACITY = 1 << 20;
+
+    // counters 안에서 생산자 위치와 소비자 위치의 인덱스
+    private static final int PRODUCER = PAD;
+    private static final int CONSUMER = PAD * 2;
+
+    // 칸 수 - 1, 위치를 칸 번호로 바꿀 때 사용
+    private final int mask;
+
+    // 원소를 담는 칸, i번 칸의 원소는 ref(i)에 있음
+    private final AtomicReferenceArray<E> buffer;
+
+    // 칸마다의 순번, i번 칸의 순번은 seq(i)에 있음
+    private final AtomicLongArray sequences;
+
+    // 생산자 위치와 소비자 위치, 양 옆을 비워서 서로 다른 캐시 라인에 둠
+    private final AtomicLongArray counters = new AtomicLongArray(PAD * 3);
+
+    /**
+     * @param capacity 담을 수 있는 최대 원소 수, 2의 거듭제곱으로 올림
+     * @throws IllegalArgumentException capacity가 2보다 작거나 너무 큰 경우
+     */
+    public MpmcRingQueue(int capacity) {
+        if (capacity < 2 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("용량은 2 이상 " + MAX_CAPACITY + " 이하여야 합니다: " + capacity);
+        final int n = (Integer.bitCount(capacity) == 1) ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = n - 1;
+        // 배열의 앞뒤에 한 칸 분량씩 비워서 배열 헤더나 옆 객체와도 캐시 라인을 나누지 않음
+        this.buffer = new AtomicReferenceArray<>((n + 2) * REF_PAD);
+        this.sequences = new AtomicLongArray((n + 2) * SEQ_PAD);
+        for (int i = 0; i < n; i++)
+            sequences.lazySet(seq(i), i);
+    }
+
+    // slot번 칸의 순번이 있는 sequences의 인덱스
+    private static int seq(int slot) {
+        return (slot + 1) * SEQ_PAD;
+    }
+
+    // slot번 칸의 원소가 있는 buffer의 인덱스
+    private static int ref(int slot) {
+        return (slot + 1) * REF_PAD;
+    }
+
+    /**
+     * @return 담을 수 있는 최대 원소 수
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long pos = counters.get(PRODUCER);
+        int slot;
+        while (true) {
+            slot = (int) pos & mask;
+            final long dif = sequences.get(seq(slot)) - pos;
+            if (dif == 0) {
+                // 빈 칸이므로 위치를 차지해봄
+                if (counters.compareAndSet(PRODUCER, pos, pos + 1))
+                    break;
+                pos = counters.get(PRODUCER);
+            } else if (dif < 0) {
+                // 한 바퀴 전의 값을 소비자가 아직 가져가지 않음 = 가득 참
+                return false;
+            } else {
+                // 다른 생산자가 먼저 차지함
+                pos = counters.get(PRODUCER);
+            }
+        }
+        // 순번을 바꾸는 쓰기가 값 쓰기보다 먼저 보이지 않도록 순서를 지킴
+        buffer.lazySet(ref(slot), e);
+        sequences.lazySet(seq(slot), pos + 1);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long pos = counters.get(CONSUMER);
+        int slot;
+        while (true) {
+            slot = (int) pos & mask;
+            final long dif = sequences.get(seq(slot)) - (pos + 1);
+            if (dif == 0) {
+                if (counters.compareAndSet(CONSUMER, pos, pos + 1))
+                    break;
+                pos = counters.get(CONSUMER);
+            } else if (dif < 0) {
+                // 생산자가 아직 값을 쓰지 않음 = 비어있음
+                return null;
+            } else {
+                pos = counters.get(CONSUMER);
+            }
+        }
+        final E e = buffer.get(ref(slot));
+        buffer.lazySet(ref(slot), null);
+        // 다음 바퀴의 생산자가 쓸 수 있도록 순번을 한 바퀴 올림
+        sequences.lazySet(seq(slot), pos + mask + 1);
+        return e;
+    }
+
+    @Override
+    public boolean add(E e) {
+        if (offer(e))
+            return true;
+        throw new IllegalStateException("큐가 가득 찼습니다. Capacity: " + capacity());
+    }
+
+    @Override
+    public E remove() {
+        E x = poll();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * 맨 앞 원소를 반환함
+     * 반환하는 순간 다른 소비자가 이미 가져갔을 수 있음
+     * @return 큐의 맨 앞 원소, 비어있을 경우 {@code null} 반환
+     */
+    @Override
+    public E peek() {
+        while (true) {
+            final long pos = counters.get(CONSUMER);
+            final int slot = (int) pos & mask;
+            if (sequences.get(seq(slot)) - (pos + 1) < 0)
+                return null;
+            final E e = buffer.get(ref(slot));
+            // 읽는 사이에 소비자가 가져가지 않았으면 그 값이 맨 앞 원소였음
+            if (e != null && counters.get(CONSUMER) == pos)
+                return e;
+        }
+    }
+
+    @Override
+    public E element() {
+        E x = peek();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * 원소의 수를 반환함, 다른 스레드가 작업 중일 때는 근삿값
+     * @return 0 이상 capacity 이하의 원소 수
+     */
+    @Override
+    public int size() {
+        long consumer = counters.get(CONSUMER);
+        while (true) {
+            final long producer = counters.get(PRODUCER);
+            final long after = counters.get(CONSUMER);
+            // 두 위치를 읽는 사이에 소비자가 움직이지 않았을 때만 믿음
+            if (after == consumer)
+                return (int) Math.max(0, Math.min(producer - consumer, mask + 1));
+            consumer = after;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return counters.get(CONSUMER) >= counters.get(PRODUCER);
+    }
+
+    // 비어있을 때까지 poll함, 다른 생산자가 계속 넣고 있으면 그 원소까지 지울 수 있음
+    @Override
+    public void clear() {
+        while (poll() != null)
+            ;
+    }
+
+    /**
+     * 약한 일관성(weakly consistent)을 가지는 반복자를 반환함
+     * 만든 시점의 소비자 위치부터 생산자 위치까지의 칸을 차례로 보고, 그때 들어있는 원소만 반환함
+     * 반복 중에 다른 스레드가 가져간 원소는 건너뛰고, 새로 넣은 원소는 보이지 않을 수 있음
+     * {@code ConcurrentModificationException}은 던지지 않으며 remove는 지원하지 않음
+     *
+     * @return 큐의 원소에 대한 Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements Iterator<E> {
+        // 다음에 볼 위치와 반복을 끝낼 위치
+        private long cursor = counters.get(CONSUMER);
+        private final long fence = counters.get(PRODUCER);
+
+        // 다음에 반환할 원소, 미리 찾아둠
+        private E nextItem = advance();
+
+        // cursor부터 fence 전까지 값이 들어있는 칸을 찾아 그 원소를 반환함
+        private E advance() {
+            while (cursor < fence) {
+                final long pos = cursor++;
+                final int slot = (int) pos & mask;
+                if (sequences.get(seq(slot)) != pos + 1)
+                    continue;
+                final E e = buffer.get(ref(slot));
+                // 값을 읽는 사이에 가져가서 다음 바퀴 값으로 바뀌지 않았는지 다시 확인함
+                if (e != null && sequences.get(seq(slot)) == pos + 1)
+                    return e;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextItem != null;
+        }
+
+        @Override
+        public E next() {
+            final E e = nextItem;
+            if (e == null)
+                throw new NoSuchElementException();
+            nextItem = advance();
+            return e;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package 큐;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MpmcRingQueue테스트 {
+    public static void main(String[] args) throws InterruptedException {
+        MpmcRingQueue<Integer> queue = new MpmcRingQueue<>(5);
+        System.out.println(queue.capacity());
+
+        for (int i = 1; i <= 10; i++)
+            System.out.print(queue.offer(i) + " ");
+        System.out.println();
+        System.out.println(queue + " " + queue.size() + " " + queue.peek());
+        System.out.println(queue.poll() + ", " + queue.poll());
+        queue.offer(9);
+        System.out.println(queue);
+        queue.clear();
+        System.out.println(queue.poll() + " " + queue.isEmpty());
+
+        // 생산자 4개와 소비자 4개가 함께 쓰고, 넣은 값의 합과 꺼낸 값의 합을 비교함
+        final int threads = 4;
+        final int perThread = 250_000;
+        MpmcRingQueue<Integer> shared = new MpmcRingQueue<>(1024);
+        AtomicLong pushed = new AtomicLong();
+        AtomicLong popped = new AtomicLong();
+        Thread[] workers = new Thread[threads * 2];
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                long sum = 0;
+                for (int i = 0; i < perThread; i++) {
+                    while (!shared.offer(base + i))
+                        Thread.onSpinWait();
+                    sum += base + i;
+                }
+                pushed.addAndGet(sum);
+            });
+            workers[threads + t] = new Thread(() -> {
+                long sum = 0;
+                for (int i = 0; i < perThread; i++) {
+                    Integer item;
+                    while ((item = shared.poll()) == null)
+                        Thread.onSpinWait();
+                    sum += item;
+                }
+                popped.addAndGet(sum);
+            });
+        }
+        for (Thread worker : workers)
+            worker.start();
+        for (Thread worker : workers)
+            worker.join();
+        System.out.println(pushed.get() == popped.get() ? "합이 같습니다: " + popped.get() : "합이 다릅니다");
+        System.out.println(shared.isEmpty());
+    }
+}
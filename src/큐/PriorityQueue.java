@@ -0,0 +1,506 @@
+package 큐;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import 배열리스트.GrowthPolicy;
+
+/**
+ * 배열 하나로 구현한 d진 힙 우선순위 큐
+ * 가장 작은 원소가 head이며, 비교는 {@link Comparator}가 있으면 그것을, 없으면 원소의 자연 순서를 따른다.
+ *
+ * i번 칸의 자식은 {@code d*i+1}부터 {@code d*i+d}까지, 부모는 {@code (i-1)/d}번 칸이다.
+ * 자식 수(arity)를 늘리면 트리의 높이가 log_d n으로 낮아져 offer가 빨라지고,
+ * poll은 한 층에서 자식 d개를 비교해야 하지만 그 자식들이 배열에 붙어 있어 같은 캐시 라인에서 읽힌다.
+ * 기본값은 4진 힙이며, arity는 나눗셈 대신 시프트를 쓰기 위해 2의 거듭제곱으로 제한한다.
+ *
+ * <pre>
+ * 4진 힙: [1 | 3 5 2 8 | 9 4 7 6 ...]
+ *          0   1 2 3 4   5 ~ 8 은 1번의 자식
+ * </pre>
+ *
+ * 컬렉션으로 만들면 원소를 한 번에 복사한 뒤 아래층부터 sift down하므로 O(n)에 힙이 된다.
+ * 반복자는 힙의 배열 순서로 돌며 정렬된 순서를 보장하지 않는다.
+ * {@code null} 원소는 허용하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class PriorityQueue<E> extends AbstractCollection<E> implements Queue<E> {
+
+    // 기본 자식 수
+    public static final int DEFAULT_ARITY = 4;
+
+    // 기본 배열 크기
+    private static final int DEFAULT_CAPACITY = 11;
+
+    // 힙 배열, [0, size)가 원소
+    Object[] queue;
+
+    // 원소의 수
+    int size;
+
+    // 한 노드의 자식 수를 log2로 나타낸 값, 자식 수 = 1 << shift
+    private final int shift;
+
+    // 원소의 순서, null이면 자연 순서
+    private final Comparator<? super E> comparator;
+
+    // 구조가 바뀐 횟수, 반복자가 다른 곳의 수정을 알아채기 위해 사용
+    int modCount;
+
+    /**
+     * @param arity 한 노드의 자식 수, 2 이상의 2의 거듭제곱
+     * @param initialCapacity 다시 할당하지 않고 담을 수 있는 원소의 수
+     * @param comparator 원소의 순서, null이면 자연 순서
+     * @throws IllegalArgumentException arity가 2 이상의 2의 거듭제곱이 아니거나 initialCapacity가 음수인 경우
+     */
+    public PriorityQueue(int arity, int initialCapacity, Comparator<? super E> comparator) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("용량은 음수일 수 없습니다: " + initialCapacity);
+        this.shift = shiftOf(arity);
+        this.queue = new Object[Math.max(1, initialCapacity)];
+        this.comparator = comparator;
+    }
+
+    public PriorityQueue(int arity, Comparator<? super E> comparator) {
+        this(arity, DEFAULT_CAPACITY, comparator);
+    }
+
+    public PriorityQueue(Comparator<? super E> comparator) {
+        this(DEFAULT_ARITY, DEFAULT_CAPACITY, comparator);
+    }
+
+    public PriorityQueue(int arity) {
+        this(arity, DEFAULT_CAPACITY, null);
+    }
+
+    public PriorityQueue() {
+        this(DEFAULT_ARITY, DEFAULT_CAPACITY, null);
+    }
+
+    /**
+     * 컬렉션의 원소로 O(n)에 힙을 만든다.
+     *
+     * @param arity 한 노드의 자식 수, 2 이상의 2의 거듭제곱
+     * @param c 담을 원소
+     * @param comparator 원소의 순서, null이면 자연 순서
+     * @throws NullPointerException c에 null 원소가 있는 경우
+     * @throws ClassCastException comparator가 null인데 원소끼리 비교할 수 없는 경우
+     */
+    public PriorityQueue(int arity, Collection<? extends E> c, Comparator<? super E> comparator) {
+        this.shift = shiftOf(arity);
+        this.comparator = comparator;
+        Object[] a = c.toArray();
+        if (a.getClass() != Object[].class)
+            a = Arrays.copyOf(a, a.length, Object[].class);
+        for (Object e : a)
+            Objects.requireNonNull(e);
+        this.queue = (a.length == 0) ? new Object[1] : a;
+        this.size = a.length;
+        heapify();
+    }
+
+    public PriorityQueue(Collection<? extends E> c) {
+        this(DEFAULT_ARITY, c, null);
+    }
+
+    // 자식 수를 시프트 양으로 바꿈
+    private static int shiftOf(int arity) {
+        if (arity < 2 || (arity & (arity - 1)) != 0)
+            throw new IllegalArgumentException("자식 수는 2 이상의 2의 거듭제곱이어야 합니다: " + arity);
+        return Integer.numberOfTrailingZeros(arity);
+    }
+
+    /**
+     * @return 한 노드의 자식 수
+     */
+    public int arity() {
+        return 1 << shift;
+    }
+
+    /**
+     * @return 원소의 순서, 자연 순서를 쓰면 {@code null}
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    // 배열이 가득 찼을 때 키움
+    private Object[] grow(int minCapacity) {
+        int newCapacity = Math.max(GrowthPolicy.DEFAULT.newCapacity(queue.length, minCapacity), minCapacity);
+        return queue = Arrays.copyOf(queue, newCapacity);
+    }
+
+    // *** 힙 연산 ***
+    // 자연 순서와 Comparator를 나눠 두면 루프 안에서 매번 comparator를 검사하지 않아도 됨
+
+    // 마지막 잎의 부모부터 루트까지 거꾸로 sift down, 아래층일수록 내려갈 거리가 짧아 전체 O(n)
+    private void heapify() {
+        final Object[] a = queue;
+        final int n = size;
+        if (n <= 1)
+            return;
+        final int lastParent = (n - 2) >> shift;
+        if (comparator == null) {
+            for (int i = lastParent; i >= 0; i--)
+                siftDownComparable(i, a[i], a, n);
+        } else {
+            for (int i = lastParent; i >= 0; i--)
+                siftDownUsingComparator(i, a[i], a, n, comparator);
+        }
+    }
+
+    // k번 칸에 x를 놓고 부모보다 작은 동안 위로 올림
+    private void siftUp(int k, E x) {
+        if (comparator == null)
+            siftUpComparable(k, x, queue, shift);
+        else
+            siftUpUsingComparator(k, x, queue, shift, comparator);
+    }
+
+    // k번 칸에 x를 놓고 가장 작은 자식보다 큰 동안 아래로 내림
+    private void siftDown(int k, E x) {
+        if (comparator == null)
+            siftDownComparable(k, x, queue, size);
+        else
+            siftDownUsingComparator(k, x, queue, size, comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void siftUpComparable(int k, T x, Object[] a, int shift) {
+        final Comparable<? super T> key = (Comparable<? super T>) x;
+        while (k > 0) {
+            int parent = (k - 1) >>> shift;
+            Object p = a[parent];
+            if (key.compareTo((T) p) >= 0)
+                break;
+            a[k] = p;
+            k = parent;
+        }
+        a[k] = key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void siftUpUsingComparator(int k, T x, Object[] a, int shift, Comparator<? super T> cmp) {
+        while (k > 0) {
+            int parent = (k - 1) >>> shift;
+            Object p = a[parent];
+            if (cmp.compare(x, (T) p) >= 0)
+                break;
+            a[k] = p;
+            k = parent;
+        }
+        a[k] = x;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDownComparable(int k, Object x, Object[] a, int n) {
+        final Comparable<? super E> key = (Comparable<? super E>) x;
+        final int shift = this.shift;
+        final int d = 1 << shift;
+        // 자식이 있는 마지막 칸, k가 이 값 이하일 때만 자식의 위치를 계산하므로 int 범위를 넘지 않음
+        final int lastParent = (n - 2) >> shift;
+        while (k <= lastParent) {
+            int child = (k << shift) + 1;
+            // 자식들 중 가장 작은 것을 고름
+            final int end = (n - child > d) ? child + d : n;
+            Object min = a[child];
+            for (int c = child + 1; c < end; c++) {
+                if (((Comparable<? super E>) min).compareTo((E) a[c]) > 0)
+                    min = a[child = c];
+            }
+            if (key.compareTo((E) min) <= 0)
+                break;
+            a[k] = min;
+            k = child;
+        }
+        a[k] = key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDownUsingComparator(int k, Object x, Object[] a, int n, Comparator<? super E> cmp) {
+        final int shift = this.shift;
+        final int d = 1 << shift;
+        final int lastParent = (n - 2) >> shift;
+        while (k <= lastParent) {
+            int child = (k << shift) + 1;
+            final int end = (n - child > d) ? child + d : n;
+            Object min = a[child];
+            for (int c = child + 1; c < end; c++) {
+                if (cmp.compare((E) min, (E) a[c]) > 0)
+                    min = a[child = c];
+            }
+            if (cmp.compare((E) x, (E) min) <= 0)
+                break;
+            a[k] = min;
+            k = child;
+        }
+        a[k] = x;
+    }
+
+    // *** 삽입 ***
+
+    /**
+     * 원소를 우선순위에 맞는 자리에 삽입한다.
+     *
+     * @param e 추가할 원소
+     * @return 항상 {@code true}
+     * @throws NullPointerException null 원소를 삽입할 경우
+     * @throws ClassCastException 이미 있는 원소와 비교할 수 없는 경우
+     */
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        modCount++;
+        final int s = size;
+        if (s >= queue.length)
+            grow(s + 1);
+        siftUp(s, e);
+        size = s + 1;
+        return true;
+    }
+
+    @Override
+    public boolean add(E e) {
+        return offer(e);
+    }
+
+    /**
+     * 원소들을 한꺼번에 삽입한다.
+     * 들어오는 원소가 이미 있는 원소보다 많으면 뒤에 붙인 뒤 전체를 O(n)에 다시 힙으로 만들고,
+     * 적으면 하나씩 sift up한다.
+     *
+     * @throws NullPointerException c에 null 원소가 있는 경우
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c == this)
+            throw new IllegalArgumentException("자기 자신을 추가할 수 없습니다.");
+        final Object[] batch = c.toArray();
+        final int k = batch.length;
+        if (k == 0)
+            return false;
+        for (Object e : batch)
+            Objects.requireNonNull(e);
+        modCount++;
+        final int s = size;
+        if (k - (queue.length - s) > 0)
+            grow(s + k);
+        if (k >= s) {
+            System.arraycopy(batch, 0, queue, s, k);
+            size = s + k;
+            heapify();
+        } else {
+            for (Object e : batch) {
+                @SuppressWarnings("unchecked")
+                E x = (E) e;
+                siftUp(size, x);
+                size++;
+            }
+        }
+        return true;
+    }
+
+    // *** 삭제 ***
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E poll() {
+        final Object[] a = queue;
+        final E result = (E) a[0];
+        if (result != null) {
+            modCount++;
+            final int n = --size;
+            final Object x = a[n];
+            a[n] = null;
+            if (n > 0) {
+                if (comparator == null)
+                    siftDownComparable(0, x, a, n);
+                else
+                    siftDownUsingComparator(0, x, a, n, comparator);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public E remove() {
+        E x = poll();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * i번 칸의 원소를 지우고 마지막 원소를 그 자리에 채움
+     * 채운 원소가 부모보다 작아 위로 올라가면 그 원소를 반환하고, 아니면 null을 반환함
+     * (반복자가 이미 지나간 칸으로 원소가 옮겨졌는지 알기 위해 사용)
+     */
+    @SuppressWarnings("unchecked")
+    E removeAt(int i) {
+        final Object[] a = queue;
+        modCount++;
+        final int s = --size;
+        if (s == i) {
+            a[i] = null;
+            return null;
+        }
+        final E moved = (E) a[s];
+        a[s] = null;
+        siftDown(i, moved);
+        if (a[i] == moved) {
+            siftUp(i, moved);
+            if (a[i] != moved)
+                return moved;
+        }
+        return null;
+    }
+
+    // 같은 원소가 있는 칸을 찾음, 없으면 -1
+    private int indexOf(Object o) {
+        if (o != null) {
+            final Object[] a = queue;
+            for (int i = 0, n = size; i < n; i++)
+                if (o.equals(a[i]))
+                    return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if (i == -1)
+            return false;
+        removeAt(i);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(queue, 0, size, null);
+        size = 0;
+    }
+
+    // *** 조회 ***
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E peek() {
+        return (E) queue[0];
+    }
+
+    @Override
+    public E element() {
+        E x = peek();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // 힙의 배열 순서대로 복사함
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(queue, size);
+    }
+
+    /**
+     * 힙의 배열 순서로 도는 반복자를 반환함
+     * 정렬된 순서를 보장하지 않으며, 반복 중에 반복자 밖에서 큐를 바꾸면 {@link ConcurrentModificationException}을 던진다.
+     *
+     * @return 큐의 원소에 대한 Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private final class Itr implements Iterator<E> {
+        // 다음에 반환할 칸
+        private int cursor;
+
+        // 마지막으로 반환한 칸, 남겨둔 원소를 반환했으면 -1
+        private int lastRet = -1;
+
+        // remove로 마지막 원소가 이미 지나간 칸으로 올라가면 빠뜨리지 않도록 따로 모아둠
+        private ArrayDeque<E> forgetMeNot;
+
+        // forgetMeNot에서 마지막으로 반환한 원소
+        private E lastRetElt;
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size || (forgetMeNot != null && !forgetMeNot.isEmpty());
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+            if (cursor < size)
+                return (E) queue[lastRet = cursor++];
+            if (forgetMeNot != null) {
+                lastRet = -1;
+                lastRetElt = forgetMeNot.poll();
+                if (lastRetElt != null)
+                    return lastRetElt;
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            if (expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+            if (lastRet != -1) {
+                E moved = removeAt(lastRet);
+                lastRet = -1;
+                if (moved == null) {
+                    // 마지막 원소가 방금 지운 칸으로 왔으므로 그 칸을 다시 봄
+                    cursor--;
+                } else {
+                    if (forgetMeNot == null)
+                        forgetMeNot = new ArrayDeque<>();
+                    forgetMeNot.offer(moved);
+                }
+            } else if (lastRetElt != null) {
+                removeEq(lastRetElt);
+                lastRetElt = null;
+            } else {
+                throw new IllegalStateException();
+            }
+            expectedModCount = modCount;
+        }
+    }
+
+    // 같은 인스턴스를 찾아 지움, 반복자의 remove에서 사용
+    private void removeEq(Object o) {
+        final Object[] a = queue;
+        for (int i = 0, n = size; i < n; i++) {
+            if (o == a[i]) {
+                removeAt(i);
+                break;
+            }
+        }
+    }
+}
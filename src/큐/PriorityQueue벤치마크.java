@@ -0,0 +1,81 @@
+package 큐;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 자식 수(arity) 2, 4, 8에 따라 {@link PriorityQueue}와 {@link LongKeyPriorityQueue}의 속도를 비교한다.
+ * 예약 작업 큐처럼 가장 이른 작업을 꺼내고 그보다 늦은 작업을 하나 넣는 일을 반복하며 (hold 모델)
+ * 힙의 크기를 SIZE로 유지한 채 초당 연산 수를 잰다. 배열로 한 번에 만드는 시간도 함께 잰다.
+ * PriorityQueue는 우선순위를 Long으로 담으므로 hold마다 박싱이 한 번 일어나고, 이 비용도 비교에 포함된다.
+ * JIT 컴파일이 끝나도록 몇 번 돌린 뒤 마지막 결과를 출력한다.
+ */
+public class PriorityQueue벤치마크 {
+
+    static final int SIZE = 1 << 20;
+    static final int OPERATIONS = 5_000_000;
+
+    static final long[] KEYS = new long[SIZE];
+    static final Long[] BOXED = new Long[SIZE];
+    static final Long[] DELTAS = new Long[1024];
+    static {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++)
+            BOXED[i] = KEYS[i] = random.nextInt(1 << 30);
+        for (int i = 0; i < DELTAS.length; i++)
+            DELTAS[i] = (long) random.nextInt(1 << 20);
+    }
+
+    // 객체 힙에서 hold 연산의 초당 수를 반환함
+    static double holdObjects(int arity) {
+        PriorityQueue<Long> heap = new PriorityQueue<>(arity, Arrays.asList(BOXED), null);
+        long check = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            long t = heap.poll();
+            check += t;
+            heap.offer(t + DELTAS[i & (DELTAS.length - 1)]);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.print("(check " + check + ") ");
+        return OPERATIONS * 1e9 / elapsed;
+    }
+
+    // long 키 힙에서 hold 연산의 초당 수를 반환함
+    static double holdLongKeys(int arity) {
+        LongKeyPriorityQueue<Long> heap = new LongKeyPriorityQueue<>(arity, KEYS, BOXED);
+        long check = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            long t = heap.peekKey();
+            Long job = heap.poll();
+            check += t;
+            heap.offer(t + DELTAS[i & (DELTAS.length - 1)], job);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.print("(check " + check + ") ");
+        return OPERATIONS * 1e9 / elapsed;
+    }
+
+    // SIZE개로 힙을 만드는 데 걸린 밀리초를 반환함
+    static double heapifyMillis(int arity) {
+        long start = System.nanoTime();
+        PriorityQueue<Long> heap = new PriorityQueue<>(arity, Arrays.asList(BOXED), null);
+        long elapsed = System.nanoTime() - start;
+        System.out.print("(check " + heap.peek() + ") ");
+        return elapsed / 1e6;
+    }
+
+    public static void main(String[] args) {
+        for (int round = 1; round <= 3; round++) {
+            System.out.printf("%n%d회차%n", round);
+            for (int arity : new int[]{2, 4, 8}) {
+                double objects = holdObjects(arity);
+                double longKeys = holdLongKeys(arity);
+                double build = heapifyMillis(arity);
+                System.out.printf("%narity %d 초당 hold 연산 PriorityQueue: %,.0f, LongKeyPriorityQueue: %,.0f, heapify: %.1fms%n",
+                    arity, objects, longKeys, build);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package 큐;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class PriorityQueue테스트 {
+    public static void main(String[] args) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>();
+        for (int x : new int[]{5, 3, 9, 1, 7, 2, 8})
+            heap.offer(x);
+        System.out.println(heap.arity() + " " + heap.size() + " " + heap.peek());
+        System.out.println(heap);
+
+        StringBuilder sorted = new StringBuilder();
+        while (!heap.isEmpty())
+            sorted.append(heap.poll()).append(' ');
+        System.out.println(sorted);
+
+        // 컬렉션으로 한 번에 만들기, 큰 값부터 꺼냄
+        List<String> words = Arrays.asList("pear", "apple", "fig", "banana", "kiwi");
+        PriorityQueue<String> byLength = new PriorityQueue<>(8, words, Comparator.comparing(String::length).reversed());
+        System.out.println(byLength.poll() + " " + byLength.poll() + " " + byLength.size());
+        byLength.remove("fig");
+        System.out.println(byLength.contains("fig") + " " + byLength.size());
+
+        // 실행 시각이 빠른 작업부터 꺼냄
+        LongKeyPriorityQueue<String> jobs = new LongKeyPriorityQueue<>();
+        jobs.offer(1_500, "로그 정리");
+        jobs.offer(200, "캐시 갱신");
+        jobs.offer(900, "통계 집계");
+        jobs.offer(200, "헬스 체크");
+        System.out.println(jobs);
+        long now = 1_000;
+        while (!jobs.isEmpty() && jobs.peekKey() <= now)
+            System.out.print(jobs.poll() + " ");
+        System.out.println();
+        System.out.println(jobs.size() + " " + jobs.peekKey() + " " + jobs.peek());
+
+        LongKeyPriorityQueue<String> built = new LongKeyPriorityQueue<>(2, new long[]{3, 1, 2}, new String[]{"c", "a", "b"});
+        System.out.println(built.poll() + built.poll() + built.poll() + " " + built.poll());
+    }
+}
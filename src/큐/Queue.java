@@ -2,6 +2,8 @@ package 큐;
 
 import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * 큐는 컬렉션 인터페이스를 상속한 인터페이스다.
@@ -64,4 +66,69 @@ public interface Queue<E> extends Collection<E> {
      * @return 큐의 head 원소
      */
     E peek();
-}
\ No newline at end of file
+
+    // *** 일괄 처리 메소드 ***
+
+    /**
+     * 큐의 앞에서부터 최대 max개의 원소를 꺼내 차례로 action에 넘긴다.
+     * 기본 구현은 {@link #poll}을 반복하며, 구현 클래스는 한 번에 여러 원소를 분리하도록 재정의할 수 있다.
+     * action이 예외를 던지면 예외를 그대로 던지며, 그 전까지 넘긴 원소는 큐에서 빠진다.
+     * 예외를 던진 원소가 남는지는 구현에 따라 다르다. (기본 구현에서는 이미 poll했으므로 빠짐)
+     *
+     * @param action 꺼낸 원소를 받을 동작
+     * @param max 꺼낼 최대 원소 수
+     * @return 꺼낸 원소의 수
+     * @throws IllegalArgumentException max가 음수인 경우
+     * @throws NullPointerException action이 null인 경우
+     */
+    default int drain(Consumer<? super E> action, int max) {
+        Objects.requireNonNull(action);
+        if (max < 0)
+            throw new IllegalArgumentException("꺼낼 개수는 음수일 수 없습니다: " + max);
+        int n = 0;
+        E e;
+        while (n < max && (e = poll()) != null) {
+            n++;
+            action.accept(e);
+        }
+        return n;
+    }
+
+    /**
+     * 큐의 앞에서부터 최대 max개의 원소를 꺼내 컬렉션에 추가한다.
+     *
+     * @param c 원소를 옮겨 담을 컬렉션
+     * @param max 옮길 최대 원소 수
+     * @return 옮긴 원소의 수
+     * @throws IllegalArgumentException c가 이 큐이거나 max가 음수인 경우
+     * @throws NullPointerException c가 null인 경우
+     */
+    default int drainTo(Collection<? super E> c, int max) {
+        Objects.requireNonNull(c);
+        if (c == this)
+            throw new IllegalArgumentException("자기 자신에게 옮길 수 없습니다.");
+        return drain(c::add, max);
+    }
+
+    /**
+     * 배열의 [from, to) 범위의 원소를 차례로 큐에 삽입한다.
+     * 기본 구현은 {@link #offer}를 반복하며 처음 실패한 원소에서 멈춘다.
+     *
+     * @param batch 추가할 원소들
+     * @param from 삽입을 시작할 위치
+     * @param to 삽입을 끝낼 위치(포함하지 않음)
+     * @return 삽입한 원소의 수, 용량 제한으로 중간에 멈추면 to - from보다 작음
+     * @throws IndexOutOfBoundsException 범위가 배열을 벗어난 경우
+     * @throws NullPointerException null 원소를 삽입할 경우
+     */
+    default int offerAll(E[] batch, int from, int to) {
+        if (from < 0 || to > batch.length || from > to)
+            throw new IndexOutOfBoundsException(
+                "범위 밖입니다. Length: " + batch.length + ", From: " + from + ", To: " + to
+                );
+        int i = from;
+        while (i < to && offer(batch[i]))
+            i++;
+        return i - from;
+    }
+}
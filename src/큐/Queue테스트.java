@@ -1,5 +1,9 @@
 package 큐;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import 연결리스트.LinkedList;
 
 public class Queue테스트 {
@@ -30,6 +34,38 @@ public class Queue테스트 {
         System.out.println(deque.pollFirst());
         System.out.println(deque);
 
+        // 원형 배열 데크, 배열 끝을 넘어가도 감싸서 이어짐
+        ArrayDeque<Integer> arrayDeque = new ArrayDeque<>(4);
+        for (int i = 1; i <= 4; i++) {
+            arrayDeque.offerLast(i);
+            arrayDeque.offerFirst(-i);
+        }
+        System.out.println(arrayDeque);
+        System.out.println(arrayDeque.pollFirst() + ", " + arrayDeque.pollLast());
+        arrayDeque.removeFirstOccurrence(-1);
+        arrayDeque.removeLastOccurrence(2);
+        System.out.println(arrayDeque);
+
+        StringBuilder reversed = new StringBuilder();
+        for (Iterator<Integer> it = arrayDeque.descendingIterator(); it.hasNext(); )
+            reversed.append(it.next()).append(' ');
+        System.out.println(reversed);
+
+        // 한꺼번에 넣고 꺼내기
+        Queue<Integer> jobs = new LinkedList<>();
+        Integer[] batch = {1, 2, 3, 4, 5, 6, 7};
+        System.out.println(jobs.offerAll(batch, 0, batch.length) + " " + jobs);
+        StringBuilder done = new StringBuilder();
+        System.out.println(jobs.drain(done::append, 3) + " " + done + " " + jobs);
+        List<Integer> rest = new ArrayList<>();
+        System.out.println(jobs.drainTo(rest, 10) + " " + rest + " " + jobs);
+
+        Queue<Integer> ring = new ArrayDeque<>(2);
+        ring.offerAll(batch, 2, 7);
+        // 문자열 연결은 모든 피연산자를 평가한 뒤에 toString을 부르므로, 꺼내기 전과 후를 따로 출력함
+        System.out.println(ring);
+        System.out.println(ring.drain(x -> {}, 2));
+        System.out.println(ring);
     }
 }
 
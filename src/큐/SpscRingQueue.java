@@ -0,0 +1,230 @@
+package 큐;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 생산자 스레드 하나와 소비자 스레드 하나 사이에서만 쓰는 크기 제한 원형 큐
+ * 두 스레드가 1:1로 값을 넘기는 경우에는 {@link MpmcRingQueue}처럼 CAS를 할 필요가 없다.
+ * tail(생산자 위치)은 생산자만, head(소비자 위치)는 소비자만 바꾸므로
+ * 값을 쓰고 자기 위치를 순서 보장 쓰기(lazySet)로 올리는 것만으로 충분하고, 두 연산 모두 대기 없이(wait-free) 끝난다.
+ *
+ * 상대 위치는 캐시해두고 캐시로 판단이 안 될 때만 다시 읽는다.
+ * 생산자는 큐가 가득 차 보일 때만 head를, 소비자는 큐가 비어 보일 때만 tail을 읽으므로
+ * 평소에는 각 스레드가 자기 캐시 라인만 건드린다.
+ *
+ * <pre>
+ * counters: [ 패딩 | head, tail 캐시 (소비자 라인) | 패딩 | tail, head 캐시 (생산자 라인) | 패딩 ]
+ * </pre>
+ *
+ * {@link #offer}는 생산자 스레드에서만, {@link #poll}, {@link #peek}, {@link #clear}는 소비자 스레드에서만 호출해야 하며
+ * 같은 쪽을 두 스레드가 함께 호출하면 원소가 사라지거나 중복될 수 있다.
+ * {@code null} 원소는 허용하지 않는다.
+ *
+ * @param <E> 저장할 원소의 타입
+ */
+public class SpscRingQueue<E> extends AbstractCollection<E> implements Queue<E> {
+
+    // 소비자 라인과 생산자 라인 사이의 간격(long의 개수), 64바이트 캐시 라인 두 개
+    private static final int PAD = 16;
+
+    // 소비자 라인: 소비자 위치와 소비자가 마지막으로 본 생산자 위치
+    private static final int HEAD = PAD;
+    private static final int TAIL_CACHE = PAD + 1;
+
+    // 생산자 라인: 생산자 위치와 생산자가 마지막으로 본 소비자 위치
+    private static final int TAIL = PAD * 2;
+    private static final int HEAD_CACHE = PAD * 2 + 1;
+
+    // 원소를 담는 배열, 길이는 2의 거듭제곱
+    private final Object[] buffer;
+
+    // 배열 길이 - 1, 위치를 칸 번호로 바꿀 때 사용
+    private final int mask;
+
+    // 위치와 캐시, 양쪽을 서로 다른 캐시 라인에 둠
+    private final AtomicLongArray counters = new AtomicLongArray(PAD * 3);
+
+    /**
+     * @param capacity 담을 수 있는 최대 원소 수, 2의 거듭제곱으로 올림
+     * @throws IllegalArgumentException capacity가 2보다 작거나 너무 큰 경우
+     */
+    public SpscRingQueue(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30)
+            throw new IllegalArgumentException("용량은 2 이상 " + (1 << 30) + " 이하여야 합니다: " + capacity);
+        final int n = (Integer.bitCount(capacity) == 1) ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.buffer = new Object[n];
+        this.mask = n - 1;
+    }
+
+    /**
+     * @return 담을 수 있는 최대 원소 수
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 원소를 큐의 뒤에 넣음, 생산자 스레드에서만 호출해야 함
+     * @param e 추가할 원소
+     * @return 넣었으면 {@code true}, 가득 찼으면 {@code false}
+     * @throws NullPointerException e가 null인 경우
+     */
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        final Object[] b = buffer;
+        final long t = counters.getPlain(TAIL);
+        if (t - counters.getPlain(HEAD_CACHE) >= b.length) {
+            // 캐시로는 가득 차 보이므로 소비자 위치를 다시 읽음
+            final long h = counters.get(HEAD);
+            if (t - h >= b.length)
+                return false;
+            counters.setPlain(HEAD_CACHE, h);
+        }
+        b[(int) t & mask] = e;
+        // 값을 쓴 뒤에 위치를 올려서 소비자가 빈 칸을 읽지 않도록 함
+        counters.lazySet(TAIL, t + 1);
+        return true;
+    }
+
+    /**
+     * 맨 앞 원소를 꺼냄, 소비자 스레드에서만 호출해야 함
+     * @return 큐의 맨 앞 원소, 비어있을 경우 {@code null} 반환
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E poll() {
+        final Object[] b = buffer;
+        final long h = counters.getPlain(HEAD);
+        if (h >= counters.getPlain(TAIL_CACHE)) {
+            // 캐시로는 비어 보이므로 생산자 위치를 다시 읽음
+            final long t = counters.get(TAIL);
+            if (h >= t)
+                return null;
+            counters.setPlain(TAIL_CACHE, t);
+        }
+        final int slot = (int) h & mask;
+        final E e = (E) b[slot];
+        b[slot] = null;
+        // 칸을 비운 뒤에 위치를 올려서 생산자가 덮어쓰기 전에 값을 다 읽었음을 보장함
+        counters.lazySet(HEAD, h + 1);
+        return e;
+    }
+
+    /**
+     * 맨 앞 원소를 반환함, 소비자 스레드에서만 호출해야 함
+     * @return 큐의 맨 앞 원소, 비어있을 경우 {@code null} 반환
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E peek() {
+        final long h = counters.getPlain(HEAD);
+        if (h >= counters.getPlain(TAIL_CACHE)) {
+            final long t = counters.get(TAIL);
+            if (h >= t)
+                return null;
+            counters.setPlain(TAIL_CACHE, t);
+        }
+        return (E) buffer[(int) h & mask];
+    }
+
+    @Override
+    public boolean add(E e) {
+        if (offer(e))
+            return true;
+        throw new IllegalStateException("큐가 가득 찼습니다. Capacity: " + capacity());
+    }
+
+    @Override
+    public E remove() {
+        E x = poll();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    @Override
+    public E element() {
+        E x = peek();
+        if (x == null)
+            throw new NoSuchElementException();
+        return x;
+    }
+
+    /**
+     * 원소의 수를 반환함, 어느 스레드에서나 호출할 수 있지만 다른 스레드가 작업 중일 때는 근삿값
+     * @return 0 이상 capacity 이하의 원소 수
+     */
+    @Override
+    public int size() {
+        long head = counters.get(HEAD);
+        while (true) {
+            final long tail = counters.get(TAIL);
+            final long after = counters.get(HEAD);
+            if (after == head)
+                return (int) Math.max(0, Math.min(tail - head, mask + 1));
+            head = after;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return counters.get(HEAD) >= counters.get(TAIL);
+    }
+
+    // 비어있을 때까지 poll함, 소비자 스레드에서만 호출해야 함
+    @Override
+    public void clear() {
+        while (poll() != null)
+            ;
+    }
+
+    /**
+     * 소비자 위치부터 생산자 위치까지를 차례로 보는 반복자를 반환함
+     * 소비자 스레드에서 쓰면 만든 시점의 원소를 모두 보여주고,
+     * 다른 스레드에서 쓰면 그 사이에 꺼내진 원소는 건너뛰는 약한 일관성을 가짐
+     * remove는 지원하지 않음
+     *
+     * @return 큐의 원소에 대한 Iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements Iterator<E> {
+        private long cursor = counters.get(HEAD);
+        private final long fence = counters.get(TAIL);
+        private E nextItem = advance();
+
+        @SuppressWarnings("unchecked")
+        private E advance() {
+            while (cursor < fence) {
+                final long pos = cursor++;
+                final E e = (E) buffer[(int) pos & mask];
+                // 읽은 뒤에도 소비자가 그 위치를 지나가지 않았으면 그 값이 맞음
+                if (e != null && counters.get(HEAD) <= pos)
+                    return e;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextItem != null;
+        }
+
+        @Override
+        public E next() {
+            final E e = nextItem;
+            if (e == null)
+                throw new NoSuchElementException();
+            nextItem = advance();
+            return e;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package 큐;
+
+import java.util.function.Supplier;
+
+import 연결리스트.LinkedList;
+
+/**
+ * 생산자 스레드 하나가 넣고 소비자 스레드 하나가 꺼내는 1:1 전달에서
+ * {@link SpscRingQueue}, {@link MpmcRingQueue}, synchronized로 감싼 {@link LinkedList}의 초당 전달 수를 비교한다.
+ * 박싱 비용을 빼기 위해 미리 만든 Integer를 돌려가며 넣는다.
+ * JIT 컴파일이 끝나도록 몇 번 돌린 뒤 마지막 결과를 출력한다.
+ */
+public class SpscRingQueue벤치마크 {
+
+    static final int OPERATIONS = 20_000_000;
+    static final int CAPACITY = 8_192;
+
+    static final Integer[] VALUES = new Integer[1024];
+    static {
+        for (int i = 0; i < VALUES.length; i++)
+            VALUES[i] = i;
+    }
+
+    // 생산자와 소비자를 하나씩 띄워 OPERATIONS개를 넘기고 초당 전달 수를 반환함
+    static double run(Supplier<Queue<Integer>> factory) throws InterruptedException {
+        final Queue<Integer> queue = factory.get();
+        final long[] sum = {0};
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                Integer value = VALUES[i & (VALUES.length - 1)];
+                while (!queue.offer(value))
+                    Thread.yield();
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            long s = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                Integer value;
+                while ((value = queue.poll()) == null)
+                    Thread.yield();
+                s += value;
+            }
+            sum[0] = s;
+        });
+
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.print("(check " + sum[0] + ") ");
+        return OPERATIONS * 1e9 / elapsed;
+    }
+
+    // 용량 제한이 없는 LinkedList를 같은 조건에서 비교하기 위해 synchronized로 감싸고 용량을 제한함
+    static Queue<Integer> lockedLinkedList() {
+        return new LinkedList<Integer>() {
+            @Override
+            public synchronized boolean offer(Integer e) {
+                return size() < CAPACITY && super.offer(e);
+            }
+
+            @Override
+            public synchronized Integer poll() {
+                return super.poll();
+            }
+        };
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int round = 1; round <= 3; round++) {
+            double spsc = run(() -> new SpscRingQueue<>(CAPACITY));
+            double mpmc = run(() -> new MpmcRingQueue<>(CAPACITY));
+            double locked = run(SpscRingQueue벤치마크::lockedLinkedList);
+            System.out.printf("%n%d회차 초당 전달 수 SpscRingQueue: %,.0f, MpmcRingQueue: %,.0f, synchronized LinkedList: %,.0f%n",
+                round, spsc, mpmc, locked);
+        }
+    }
+}